@@ -19,7 +19,13 @@
 
 package org.neo4j.driver.internal;
 
+import java.util.Collection;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.v1.Driver;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
@@ -27,8 +33,11 @@ import org.neo4j.driver.v1.Session;
 
 abstract class BaseDriver implements Driver
 {
+    private static final Future<Void> NO_WARM_UP = noWarmUp();
+
     private final SecurityPlan securityPlan;
     protected final Logger log;
+    private volatile Future<Void> warmUp = NO_WARM_UP;
 
     BaseDriver( SecurityPlan securityPlan, Logging logging )
     {
@@ -42,4 +51,54 @@ abstract class BaseDriver implements Driver
         return securityPlan.requiresEncryption();
     }
 
+    @Override
+    public Future<Void> warmUp()
+    {
+        return warmUp;
+    }
+
+    /**
+     * Start warming up the connection pool, the returned future is also the one handed out by {@link #warmUp()}.
+     */
+    protected Future<Void> startWarmUp( ConnectionPool connections, Collection<BoltServerAddress> addresses,
+            int connectionsPerServer )
+    {
+        if ( connectionsPerServer > 0 )
+        {
+            warmUp = connections.warmUp( addresses, connectionsPerServer );
+        }
+        return warmUp;
+    }
+
+    protected boolean isWarmUpStarted()
+    {
+        return warmUp != NO_WARM_UP;
+    }
+
+    /**
+     * Report how many TLS handshakes resumed an earlier session, the others ran the full key exchange.
+     */
+    protected void logTlsHandshakes()
+    {
+        if ( securityPlan.requiresEncryption() )
+        {
+            log.debug( "~~ [TLS HANDSHAKES] full: %s, resumed: %s", securityPlan.fullHandshakes(),
+                    securityPlan.resumedHandshakes() );
+        }
+    }
+
+    private static Future<Void> noWarmUp()
+    {
+        FutureTask<Void> done = new FutureTask<>( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                // nothing to warm up
+            }
+        }, null );
+        done.run();
+        return done;
+    }
+
 }
@@ -33,6 +33,7 @@ import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.ConcurrentRoundRobinSet;
 import org.neo4j.driver.internal.util.Consumer;
 import org.neo4j.driver.v1.AccessMode;
+import org.neo4j.driver.v1.Config;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Record;
@@ -74,6 +75,8 @@ public class ClusterDriver extends BaseDriver
     private final ConcurrentRoundRobinSet<BoltServerAddress> readServers = new ConcurrentRoundRobinSet<>( COMPARATOR );
     private final ConcurrentRoundRobinSet<BoltServerAddress> writeServers = new ConcurrentRoundRobinSet<>( COMPARATOR );
     private final AtomicLong expires = new AtomicLong( 0L );
+    private final int warmUpConnections;
+    private final int maxBufferedRecords;
 
     public ClusterDriver( BoltServerAddress seedAddress,
             ConnectionPool connections,
@@ -82,12 +85,29 @@ public class ClusterDriver extends BaseDriver
             Clock clock,
             Logging logging )
     {
-        super( securityPlan, logging );
+        this( seedAddress, connections, securityPlan, sessionProvider, clock,
+                Config.build().withLogging( logging ).toConfig() );
+    }
+
+    public ClusterDriver( BoltServerAddress seedAddress,
+            ConnectionPool connections,
+            SecurityPlan securityPlan,
+            BiFunction<Connection,Logger,Session> sessionProvider,
+            Clock clock,
+            Config config )
+    {
+        super( securityPlan, config.logging() );
         routingServers.add( seedAddress );
         this.connections = connections;
         this.sessionProvider = sessionProvider;
         this.clock = clock;
+        this.warmUpConnections = config.warmUpConnectionsPerServer();
+        this.maxBufferedRecords = config.maxBufferedRecordsPerResult();
         checkServers();
+        synchronized ( routingServers )
+        {
+            startWarmUp( connections, knownServers(), warmUpConnections );
+        }
     }
 
     private void checkServers()
@@ -104,6 +124,15 @@ public class ClusterDriver extends BaseDriver
         }
     }
 
+    private Set<BoltServerAddress> knownServers()
+    {
+        Set<BoltServerAddress> known = new HashSet<>();
+        known.addAll( routingServers );
+        known.addAll( readServers );
+        known.addAll( writeServers );
+        return known;
+    }
+
     private Set<BoltServerAddress> forgetAllServers()
     {
         final Set<BoltServerAddress> seen = new HashSet<>();
@@ -140,6 +169,7 @@ public class ClusterDriver extends BaseDriver
 
             ConcurrentRoundRobinSet<BoltServerAddress> routers = new ConcurrentRoundRobinSet<>( routingServers );
             final Set<BoltServerAddress> seen = forgetAllServers();
+            final Set<BoltServerAddress> previouslyKnown = new HashSet<>( seen );
             while ( !routers.isEmpty() && !success )
             {
                 address = routers.hop();
@@ -179,6 +209,17 @@ public class ClusterDriver extends BaseDriver
             {
                 connections.purge( remove );
             }
+
+            //members that joined since the last discovery get the same warm-up as the initial ones
+            if ( isWarmUpStarted() )
+            {
+                Set<BoltServerAddress> discovered = knownServers();
+                discovered.removeAll( previouslyKnown );
+                if ( !discovered.isEmpty() )
+                {
+                    connections.warmUp( discovered, warmUpConnections );
+                }
+            }
         }
         catch ( Exception ex )
         {
@@ -256,15 +297,15 @@ public class ClusterDriver extends BaseDriver
         }
         finally
         {
+            // closing the session releases its connection, the connection must not be released twice
             if ( session != null )
             {
                 session.close();
             }
-            if ( acquire != null )
+            else if ( acquire != null )
             {
                 acquire.close();
             }
-
         }
         return true;
     }
@@ -286,7 +327,7 @@ public class ClusterDriver extends BaseDriver
     @Override
     public Session session( final AccessMode mode )
     {
-        return new ClusteredNetworkSession( mode, acquireConnection( mode ),
+        return new ClusteredNetworkSession( mode, acquireConnection( mode ), maxBufferedRecords,
                 new ClusteredErrorHandler()
                 {
                     @Override
@@ -326,6 +367,7 @@ public class ClusterDriver extends BaseDriver
         try
         {
             connections.close();
+            logTlsHandshakes();
         }
         catch ( Exception ex )
         {
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.spi.Connection;
@@ -45,6 +47,14 @@ public class ClusteredNetworkSession extends NetworkSession
         this.onError = onError;
     }
 
+    ClusteredNetworkSession( AccessMode mode, Connection connection, int maxBufferedRecords,
+            ClusteredErrorHandler onError, Logger logger )
+    {
+        super( connection, maxBufferedRecords, logger );
+        this.mode = mode;
+        this.onError = onError;
+    }
+
     @Override
     public StatementResult run( Statement statement )
     {
@@ -62,6 +72,28 @@ public class ClusteredNetworkSession extends NetworkSession
         }
     }
 
+    @Override
+    public List<StatementResult> runBatch( List<Statement> statements )
+    {
+        try
+        {
+            List<StatementResult> results = new ArrayList<>( statements.size() );
+            for ( StatementResult result : super.runBatch( statements ) )
+            {
+                results.add( new ClusteredStatementResult( result, mode, connection.address(), onError ) );
+            }
+            return results;
+        }
+        catch ( ConnectionFailureException e )
+        {
+            throw sessionExpired(e, onError, connection.address());
+        }
+        catch ( ClientException e )
+        {
+            throw filterFailureToWrite(e, mode, onError, connection.address() );
+        }
+    }
+
     @Override
     public void close()
     {
@@ -29,6 +29,7 @@ import org.neo4j.driver.v1.exceptions.ConnectionFailureException;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
 import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.util.Function;
+import org.neo4j.driver.v1.util.Subscriber;
 
 import static java.lang.String.format;
 
@@ -194,4 +195,10 @@ public class ClusteredStatementResult implements StatementResult
         }
     }
 
+    @Override
+    public void subscribe( Subscriber<Record> subscriber )
+    {
+        // Delivery goes through this result, so failures are handled as for any other use of it
+        RecordSubscription.subscribe( this, subscriber );
+    }
 }
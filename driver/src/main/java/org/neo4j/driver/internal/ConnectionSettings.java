@@ -19,6 +19,8 @@
 
 package org.neo4j.driver.internal;
 
+import org.neo4j.driver.internal.net.BufferingChunkedInput;
+import org.neo4j.driver.internal.net.SocketSettings;
 import org.neo4j.driver.v1.AuthToken;
 import org.neo4j.driver.v1.Session;
 
@@ -26,7 +28,8 @@ import static java.lang.String.format;
 
 /**
  * The connection settings are used whenever a new connection is
- * established to a server, specifically as part of the INIT request.
+ * established to a server, specifically as part of the INIT request,
+ * and to set up the socket the connection uses.
  */
 public class ConnectionSettings
 {
@@ -53,11 +56,26 @@ public class ConnectionSettings
 
     private final AuthToken authToken;
     private final String userAgent;
+    private final int minReadBufferSize;
+    private final int maxReadBufferSize;
+    private final boolean messageCoalescing;
+    private final SocketSettings socketSettings;
 
-    public ConnectionSettings( AuthToken authToken, String userAgent )
+    public ConnectionSettings( AuthToken authToken, String userAgent, int minReadBufferSize, int maxReadBufferSize,
+            boolean messageCoalescing, SocketSettings socketSettings )
     {
         this.authToken = authToken;
         this.userAgent = userAgent;
+        this.minReadBufferSize = minReadBufferSize;
+        this.maxReadBufferSize = maxReadBufferSize;
+        this.messageCoalescing = messageCoalescing;
+        this.socketSettings = socketSettings;
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent )
+    {
+        this( authToken, userAgent, BufferingChunkedInput.STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE,
+                BufferingChunkedInput.DEFAULT_MAX_BUFFER_SIZE, false, SocketSettings.defaultSettings() );
     }
 
     public ConnectionSettings( AuthToken authToken )
@@ -75,4 +93,24 @@ public class ConnectionSettings
         return userAgent;
     }
 
+    public int minReadBufferSize()
+    {
+        return minReadBufferSize;
+    }
+
+    public int maxReadBufferSize()
+    {
+        return maxReadBufferSize;
+    }
+
+    public boolean messageCoalescing()
+    {
+        return messageCoalescing;
+    }
+
+    public SocketSettings socketSettings()
+    {
+        return socketSettings;
+    }
+
 }
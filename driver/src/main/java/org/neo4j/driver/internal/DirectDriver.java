@@ -18,10 +18,13 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.Collections;
+
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.v1.AccessMode;
+import org.neo4j.driver.v1.Config;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Session;
 
@@ -31,19 +34,28 @@ public class DirectDriver extends BaseDriver
 {
     protected final ConnectionPool connections;
     private final BoltServerAddress address;
+    private final int maxBufferedRecords;
 
     public DirectDriver( BoltServerAddress address, ConnectionPool connections, SecurityPlan securityPlan,
             Logging logging )
     {
-        super( securityPlan, logging );
+        this( address, connections, securityPlan, Config.build().withLogging( logging ).toConfig() );
+    }
+
+    public DirectDriver( BoltServerAddress address, ConnectionPool connections, SecurityPlan securityPlan,
+            Config config )
+    {
+        super( securityPlan, config.logging() );
         this.connections = connections;
         this.address = address;
+        this.maxBufferedRecords = config.maxBufferedRecordsPerResult();
+        startWarmUp( connections, Collections.singleton( address ), config.warmUpConnectionsPerServer() );
     }
 
     @Override
     public Session session()
     {
-        return new NetworkSession( connections.acquire( address ), log );
+        return new NetworkSession( connections.acquire( address ), maxBufferedRecords, log );
     }
 
     @Override
@@ -58,6 +70,7 @@ public class DirectDriver extends BaseDriver
         try
         {
             connections.close();
+            logTlsHandshakes();
         }
         catch ( Exception ex )
         {
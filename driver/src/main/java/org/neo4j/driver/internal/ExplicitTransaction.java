@@ -18,12 +18,15 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Config;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
@@ -68,6 +71,7 @@ class ExplicitTransaction implements Transaction
 
     private final Runnable cleanup;
     private final Connection conn;
+    private final int maxBufferedRecords;
 
     private String bookmark = null;
     private State state = State.ACTIVE;
@@ -78,9 +82,15 @@ class ExplicitTransaction implements Transaction
     }
 
     ExplicitTransaction( Connection conn, Runnable cleanup, String bookmark )
+    {
+        this( conn, cleanup, bookmark, Config.NO_RECORD_BUFFER_LIMIT );
+    }
+
+    ExplicitTransaction( Connection conn, Runnable cleanup, String bookmark, int maxBufferedRecords )
     {
         this.conn = conn;
         this.cleanup = cleanup;
+        this.maxBufferedRecords = maxBufferedRecords;
 
         final Map<String, Value> parameters;
         if ( bookmark == null )
@@ -176,11 +186,7 @@ class ExplicitTransaction implements Transaction
 
         try
         {
-            InternalStatementResult cursor = new InternalStatementResult( conn, this, statement );
-            conn.run( statement.text(),
-                    statement.parameters().asMap( ofValue() ),
-                    cursor.runResponseCollector() );
-            conn.pullAll( cursor.pullAllResponseCollector() );
+            StatementResult cursor = queue( statement );
             conn.flush();
             return cursor;
         }
@@ -193,6 +199,40 @@ class ExplicitTransaction implements Transaction
         }
     }
 
+    @Override
+    public synchronized List<StatementResult> runBatch( List<Statement> statements )
+    {
+        ensureNotFailed();
+
+        try
+        {
+            StatementPipeline pipeline = new StatementPipeline( conn );
+            List<StatementResult> cursors = new ArrayList<>( statements.size() );
+            for ( Statement statement : statements )
+            {
+                pipeline.beforeQueue( statement );
+                cursors.add( queue( statement ) );
+            }
+            conn.flush();
+            return cursors;
+        }
+        catch ( Neo4jException e )
+        {
+            state = State.FAILED;
+            throw e;
+        }
+    }
+
+    private StatementResult queue( Statement statement )
+    {
+        InternalStatementResult cursor = new InternalStatementResult( conn, this, statement, maxBufferedRecords );
+        conn.run( statement.text(),
+                statement.parameters().asMap( ofValue() ),
+                cursor.runResponseCollector() );
+        conn.pullAll( cursor.pullAllResponseCollector() );
+        return cursor;
+    }
+
     @Override
     public boolean isOpen()
     {
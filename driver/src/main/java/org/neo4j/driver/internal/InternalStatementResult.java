@@ -18,9 +18,9 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
 
@@ -41,25 +41,39 @@ import org.neo4j.driver.v1.summary.StatementType;
 import org.neo4j.driver.v1.summary.SummaryCounters;
 import org.neo4j.driver.v1.util.Function;
 import org.neo4j.driver.v1.util.Functions;
+import org.neo4j.driver.v1.util.Subscriber;
 
+import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static org.neo4j.driver.v1.Config.NO_RECORD_BUFFER_LIMIT;
 
 public class InternalStatementResult implements StatementResult
 {
     private final Connection connection;
+    private final Statement statement;
+    private final int maxBufferedRecords;
     private final Collector runResponseCollector;
     private final Collector pullAllResponseCollector;
-    private final Queue<Record> recordBuffer = new LinkedList<>();
+    private final Queue<Record> recordBuffer = new ArrayDeque<>();
 
     private List<String> keys = null;
     private ResultSummary summary = null;
 
     private long position = -1;
     private boolean done = false;
+    private boolean bufferOverflowed = false;
 
     InternalStatementResult( Connection connection, ExplicitTransaction transaction, Statement statement )
+    {
+        this( connection, transaction, statement, NO_RECORD_BUFFER_LIMIT );
+    }
+
+    InternalStatementResult( Connection connection, ExplicitTransaction transaction, Statement statement,
+            int maxBufferedRecords )
     {
         this.connection = connection;
+        this.statement = statement;
+        this.maxBufferedRecords = maxBufferedRecords;
         this.runResponseCollector = newRunResponseCollector();
         this.pullAllResponseCollector = newStreamResponseCollector( transaction, statement );
     }
@@ -100,6 +114,18 @@ public class InternalStatementResult implements StatementResult
             @Override
             public void record( Value[] fields )
             {
+                if ( bufferOverflowed )
+                {
+                    return;
+                }
+                if ( recordBuffer.size() >= maxBufferedRecords )
+                {
+                    // Something had to read this far past the consumer of this result, drop the records
+                    // rather than exhausting the heap
+                    bufferOverflowed = true;
+                    recordBuffer.clear();
+                    return;
+                }
                 recordBuffer.add( new InternalRecord( keys, fields ) );
             }
 
@@ -294,6 +320,12 @@ public class InternalStatementResult implements StatementResult
         return summary;
     }
 
+    @Override
+    public void subscribe( Subscriber<Record> subscriber )
+    {
+        RecordSubscription.subscribe( this, subscriber );
+    }
+
     @Override
     public void remove()
     {
@@ -302,6 +334,7 @@ public class InternalStatementResult implements StatementResult
 
     private boolean tryFetchNext()
     {
+        ensureBufferNotOverflowed();
         while ( recordBuffer.isEmpty() )
         {
             if ( done )
@@ -313,4 +346,17 @@ public class InternalStatementResult implements StatementResult
 
         return true;
     }
+
+    private void ensureBufferNotOverflowed()
+    {
+        if ( bufferOverflowed )
+        {
+            throw new ClientException( format(
+                    "Records of the statement `%s` were dropped, because more than the maximum of %s records " +
+                    "had to be buffered before they were consumed. This happens when other statements in the " +
+                    "same session are run or consumed before this result. Consume results in the order their " +
+                    "statements were run, or raise the limit using `Config.build().withMaxBufferedRecords(...)`.",
+                    statement.text(), maxBufferedRecords ) );
+        }
+    }
 }
@@ -18,11 +18,14 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Config;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Session;
@@ -60,12 +63,19 @@ public class NetworkSession implements Session
         }
     };
 
+    private final int maxBufferedRecords;
     private ExplicitTransaction currentTransaction;
     private AtomicBoolean isOpen = new AtomicBoolean( true );
 
     public NetworkSession( Connection connection, Logger logger )
+    {
+        this( connection, Config.NO_RECORD_BUFFER_LIMIT, logger );
+    }
+
+    public NetworkSession( Connection connection, int maxBufferedRecords, Logger logger )
     {
         this.connection = connection;
+        this.maxBufferedRecords = maxBufferedRecords;
         this.logger = logger;
     }
 
@@ -99,11 +109,32 @@ public class NetworkSession implements Session
     public StatementResult run( Statement statement )
     {
         ensureConnectionIsValidBeforeRunningSession();
-        InternalStatementResult cursor = new InternalStatementResult( connection, null, statement );
+        StatementResult cursor = queue( statement );
+        connection.flush();
+        return cursor;
+    }
+
+    @Override
+    public List<StatementResult> runBatch( List<Statement> statements )
+    {
+        ensureConnectionIsValidBeforeRunningSession();
+        StatementPipeline pipeline = new StatementPipeline( connection );
+        List<StatementResult> cursors = new ArrayList<>( statements.size() );
+        for ( Statement statement : statements )
+        {
+            pipeline.beforeQueue( statement );
+            cursors.add( queue( statement ) );
+        }
+        connection.flush();
+        return cursors;
+    }
+
+    private StatementResult queue( Statement statement )
+    {
+        InternalStatementResult cursor = new InternalStatementResult( connection, null, statement, maxBufferedRecords );
         connection.run( statement.text(), statement.parameters().asMap( Values.ofValue() ),
                 cursor.runResponseCollector() );
         connection.pullAll( cursor.pullAllResponseCollector() );
-        connection.flush();
         return cursor;
     }
 
@@ -179,7 +210,7 @@ public class NetworkSession implements Session
     public synchronized Transaction beginTransaction( String bookmark )
     {
         ensureConnectionIsValidBeforeOpeningTransaction();
-        currentTransaction = new ExplicitTransaction( connection, txCleanup, bookmark );
+        currentTransaction = new ExplicitTransaction( connection, txCleanup, bookmark, maxBufferedRecords );
         connection.onError( new Runnable()
         {
             @Override
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.util.Subscriber;
+import org.neo4j.driver.v1.util.Subscription;
+
+/**
+ * Delivers the records of a result to a {@link Subscriber}, reading them off the connection only as they are
+ * requested. Records are delivered on the thread calling {@link #request(long)}.
+ * <p>
+ * {@link #cancel()} never waits for an ongoing delivery. It raises a flag that the delivery checks before every
+ * record, and the remaining records are then discarded by whichever thread holds the delivery lock last.
+ */
+class RecordSubscription implements Subscription
+{
+    private final StatementResult result;
+    private final Subscriber<Record> subscriber;
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+
+    private volatile boolean cancelled = false;
+
+    // guarded by deliveryLock
+    private long demand = 0;
+    private boolean delivering = false;
+    private boolean terminated = false;
+
+    private RecordSubscription( StatementResult result, Subscriber<Record> subscriber )
+    {
+        this.result = result;
+        this.subscriber = subscriber;
+    }
+
+    static void subscribe( StatementResult result, Subscriber<Record> subscriber )
+    {
+        subscriber.onSubscribe( new RecordSubscription( result, subscriber ) );
+    }
+
+    @Override
+    public void request( long n )
+    {
+        deliveryLock.lock();
+        try
+        {
+            request0( n );
+        }
+        finally
+        {
+            deliveryLock.unlock();
+        }
+        if ( cancelled )
+        {
+            // cancel() may have been called by another thread while the lock was held
+            tryDiscardRemaining();
+        }
+    }
+
+    private void request0( long n )
+    {
+        if ( terminated || cancelled )
+        {
+            return;
+        }
+        if ( n <= 0 )
+        {
+            terminated = true;
+            discardRemaining();
+            subscriber.onError( new IllegalArgumentException(
+                    "Number of requested records must be positive, but was " + n + "." ) );
+            return;
+        }
+
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        if ( delivering )
+        {
+            // Called from within onNext, the loop below picks up the new demand
+            return;
+        }
+
+        delivering = true;
+        try
+        {
+            deliver();
+        }
+        finally
+        {
+            delivering = false;
+        }
+    }
+
+    @Override
+    public void cancel()
+    {
+        cancelled = true;
+        if ( !deliveryLock.isHeldByCurrentThread() )
+        {
+            // when called from within onNext, the remaining records are discarded once the delivery returns
+            tryDiscardRemaining();
+        }
+    }
+
+    private void tryDiscardRemaining()
+    {
+        // if another thread holds the lock, it sees the flag and discards the records once it is done
+        if ( deliveryLock.tryLock() )
+        {
+            try
+            {
+                if ( !terminated )
+                {
+                    terminated = true;
+                    discardRemaining();
+                }
+            }
+            finally
+            {
+                deliveryLock.unlock();
+            }
+        }
+    }
+
+    private void deliver()
+    {
+        while ( demand > 0 && !cancelled && !terminated )
+        {
+            Record record;
+            try
+            {
+                if ( !result.hasNext() )
+                {
+                    terminated = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                record = result.next();
+            }
+            catch ( RuntimeException e )
+            {
+                terminated = true;
+                subscriber.onError( e );
+                return;
+            }
+            demand -= 1;
+            subscriber.onNext( record );
+        }
+    }
+
+    private void discardRemaining()
+    {
+        try
+        {
+            result.consume();
+        }
+        catch ( RuntimeException e )
+        {
+            // The subscriber is no longer interested in this result, so there is nobody to report this to
+        }
+    }
+}
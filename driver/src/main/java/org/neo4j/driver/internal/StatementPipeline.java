@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.types.TypeSystem;
+
+/**
+ * Bounds the statements of a batch that are sent to the server without reading their responses.
+ *
+ * The server stops reading statements while the responses to earlier ones are not read, so a client that keeps
+ * writing statements without reading would wait for the server forever, once the network buffers in between are
+ * full. Before the statements queued so far exceed a number or size that safely fits in those buffers, they are
+ * sent and all their responses are received, records included, so that writing the next statements never blocks
+ * on the server.
+ */
+class StatementPipeline
+{
+    static final int MAX_STATEMENTS_IN_FLIGHT = 100;
+    /** Well below the sum of the OS default socket send and receive buffer sizes */
+    static final int MAX_BYTES_IN_FLIGHT = 32 * 1024;
+
+    private static final TypeSystem TYPES = InternalTypeSystem.TYPE_SYSTEM;
+    /** Marker and payload of a number, boolean or null */
+    private static final int SCALAR_SIZE = 9;
+
+    private final Connection connection;
+    private int statementsInFlight;
+    private long bytesInFlight;
+
+    StatementPipeline( Connection connection )
+    {
+        this.connection = connection;
+    }
+
+    /**
+     * Make room for the given statement, to be called right before queueing it on the connection.
+     */
+    void beforeQueue( Statement statement )
+    {
+        long size = estimatedSize( statement );
+        if ( statementsInFlight > 0 &&
+             (statementsInFlight >= MAX_STATEMENTS_IN_FLIGHT || bytesInFlight + size > MAX_BYTES_IN_FLIGHT) )
+        {
+            connection.sync();
+            statementsInFlight = 0;
+            bytesInFlight = 0;
+        }
+        statementsInFlight++;
+        bytesInFlight += size;
+    }
+
+    static long estimatedSize( Statement statement )
+    {
+        return statement.text().length() + estimatedSize( statement.parameters() );
+    }
+
+    private static long estimatedSize( Value value )
+    {
+        if ( value.hasType( TYPES.STRING() ) )
+        {
+            return value.asString().length();
+        }
+        if ( value.hasType( TYPES.BYTES() ) )
+        {
+            return value.asByteArray().length;
+        }
+        if ( value.hasType( TYPES.LIST() ) || value.hasType( TYPES.MAP() ) )
+        {
+            long size = SCALAR_SIZE;
+            for ( String key : value.keys() )
+            {
+                size += key.length();
+            }
+            for ( Value element : value.values() )
+            {
+                size += estimatedSize( element );
+            }
+            return size;
+        }
+        return SCALAR_SIZE;
+    }
+}
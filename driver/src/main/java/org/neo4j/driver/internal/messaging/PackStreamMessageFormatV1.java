@@ -38,8 +38,12 @@ import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.packstream.PackType;
 import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.value.BooleanListValue;
+import org.neo4j.driver.internal.value.BytesValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.InternalValue;
 import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.PathValue;
@@ -227,6 +231,10 @@ public class PackStreamMessageFormatV1 implements MessageFormat
                     packer.pack( value.asString() );
                     break;
 
+                case BYTES_TyCon:
+                    packer.pack( value.asByteArray() );
+                    break;
+
                 case BOOLEAN_TyCon:
                     packer.pack( value.asBoolean() );
                     break;
@@ -510,7 +518,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             switch ( type )
             {
             case BYTES:
-                break;
+                return new BytesValue( unpacker.unpackBytes() );
             case NULL:
                 return value( unpacker.unpackNull() );
             case BOOLEAN:
@@ -527,13 +535,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             }
             case LIST:
             {
-                int size = (int) unpacker.unpackListHeader();
-                Value[] vals = new Value[size];
-                for ( int j = 0; j < size; j++ )
-                {
-                    vals[j] = unpackValue();
-                }
-                return new ListValue( vals );
+                return unpackList();
             }
             case STRUCT:
             {
@@ -556,12 +558,101 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             throw new IOException( "Unknown value type: " + type );
         }
 
+        private Value unpackList() throws IOException
+        {
+            int size = (int) unpacker.unpackListHeader();
+            if ( size == 0 )
+            {
+                return new ListValue();
+            }
+
+            // lists of integers, floats or booleans are kept as arrays of the primitive type, for as long as
+            // the elements turn out to be of the same type as the first
+            switch ( unpacker.peekNextType() )
+            {
+            case INTEGER:
+                return unpackLongList( size );
+            case FLOAT:
+                return unpackDoubleList( size );
+            case BOOLEAN:
+                return unpackBooleanList( size );
+            default:
+                return unpackListElements( new Value[size], 0 );
+            }
+        }
+
+        private Value unpackLongList( int size ) throws IOException
+        {
+            long[] longs = new long[size];
+            for ( int i = 0; i < size; i++ )
+            {
+                if ( unpacker.peekNextType() != PackType.INTEGER )
+                {
+                    Value[] vals = new Value[size];
+                    for ( int j = 0; j < i; j++ )
+                    {
+                        vals[j] = value( longs[j] );
+                    }
+                    return unpackListElements( vals, i );
+                }
+                longs[i] = unpacker.unpackLong();
+            }
+            return new LongListValue( longs );
+        }
+
+        private Value unpackDoubleList( int size ) throws IOException
+        {
+            double[] doubles = new double[size];
+            for ( int i = 0; i < size; i++ )
+            {
+                if ( unpacker.peekNextType() != PackType.FLOAT )
+                {
+                    Value[] vals = new Value[size];
+                    for ( int j = 0; j < i; j++ )
+                    {
+                        vals[j] = value( doubles[j] );
+                    }
+                    return unpackListElements( vals, i );
+                }
+                doubles[i] = unpacker.unpackDouble();
+            }
+            return new DoubleListValue( doubles );
+        }
+
+        private Value unpackBooleanList( int size ) throws IOException
+        {
+            boolean[] booleans = new boolean[size];
+            for ( int i = 0; i < size; i++ )
+            {
+                if ( unpacker.peekNextType() != PackType.BOOLEAN )
+                {
+                    Value[] vals = new Value[size];
+                    for ( int j = 0; j < i; j++ )
+                    {
+                        vals[j] = value( booleans[j] );
+                    }
+                    return unpackListElements( vals, i );
+                }
+                booleans[i] = unpacker.unpackBoolean();
+            }
+            return new BooleanListValue( booleans );
+        }
+
+        private Value unpackListElements( Value[] vals, int from ) throws IOException
+        {
+            for ( int j = from; j < vals.length; j++ )
+            {
+                vals[j] = unpackValue();
+            }
+            return new ListValue( vals );
+        }
+
         private Value unpackRelationship() throws IOException
         {
             long urn = unpacker.unpackLong();
             long startUrn = unpacker.unpackLong();
             long endUrn = unpacker.unpackLong();
-            String relType = unpacker.unpackString();
+            String relType = unpacker.unpackToken();
             Map<String,Value> props = unpackMap();
 
             InternalRelationship adapted = new InternalRelationship( urn, startUrn, endUrn, relType, props );
@@ -576,13 +667,13 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             List<String> labels = new ArrayList<>( numLabels );
             for ( int i = 0; i < numLabels; i++ )
             {
-                labels.add( unpacker.unpackString() );
+                labels.add( unpacker.unpackToken() );
             }
             int numProps = (int) unpacker.unpackMapHeader();
             Map<String,Value> props = new HashMap<>();
             for ( int j = 0; j < numProps; j++ )
             {
-                String key = unpacker.unpackString();
+                String key = unpacker.unpackToken();
                 props.put( key, unpackValue() );
             }
 
@@ -607,7 +698,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
                 ensureCorrectStructSize( "RELATIONSHIP", 3, unpacker.unpackStructHeader() );
                 ensureCorrectStructSignature( "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature() );
                 long id = unpacker.unpackLong();
-                String relType = unpacker.unpackString();
+                String relType = unpacker.unpackToken();
                 Map<String,Value> props = unpackMap();
                 uniqRels[i] = new InternalRelationship( id, -1, -1, relType, props );
             }
@@ -677,7 +768,7 @@ public class PackStreamMessageFormatV1 implements MessageFormat
             Map<String,Value> map = new HashMap<>( size );
             for ( int i = 0; i < size; i++ )
             {
-                String key = unpacker.unpackString();
+                String key = unpacker.unpackToken();
                 map.put( key, unpackValue() );
             }
             return map;
@@ -29,21 +29,50 @@ import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ConnectionFailureException;
 
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 /**
  * BufferingChunkedInput reads data in chunks but maintains a buffer so that every time it goes to the
  * underlying channel it reads up to {@value #STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE} bytes.
+ *
+ * The buffer adapts to the traffic on the channel: it doubles in size, up to a maximum, whenever a read fills
+ * it completely, as happens when streaming large results, and halves again, down to its initial size, after
+ * reads repeatedly use only a small part of it.
+ *
+ * The buffer is taken from a {@link ByteBufferPool} when data is read from the channel, and handed back as soon
+ * as a message has been read completely and no more data is buffered.
  */
 public class BufferingChunkedInput implements PackInput
 {
     // http://stackoverflow.com/questions/2613734/maximum-packet-size-for-a-tcp-connection
-    private static final int STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE = 1400;
+    public static final int STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE = 1400;
+
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 64 * 1024;
+
+    /** Number of consecutive reads using less than a quarter of the buffer before it is shrunk */
+    private static final int SMALL_READS_BEFORE_SHRINK = 2;
+
+    /** Stands in for the main buffer while none is taken from the pool */
+    private static final ByteBuffer NO_BUFFER = ByteBuffer.allocate( 0 );
 
     /**
      * Main buffer, everytime we read from the underlying channel we try to fill up the entire buffer.
      */
-    private final ByteBuffer buffer;
+    private ByteBuffer buffer = NO_BUFFER;
+
+    /**
+     * Pool the main buffer is taken from and returned to.
+     */
+    private final ByteBufferPool bufferPool;
+
+    /**
+     * Bounds of the main buffer capacity, and the capacity to use for the next read from the channel.
+     */
+    private final int minBufferCapacity;
+    private final int maxBufferCapacity;
+    private int nextBufferCapacity;
+    private int smallReads = 0;
 
     /**
      * Scratch buffer used for obtaining results from the main buffer.
@@ -81,9 +110,36 @@ public class BufferingChunkedInput implements PackInput
      */
     public BufferingChunkedInput( ReadableByteChannel channel, int bufferCapacity )
     {
-        assert bufferCapacity >= 1;
-        this.buffer = ByteBuffer.allocate( bufferCapacity ).order( ByteOrder.BIG_ENDIAN );
-        this.buffer.limit( 0 );
+        this( channel, bufferCapacity, bufferCapacity );
+    }
+
+    /**
+     * Creates a BufferingChunkedInput from a given channel with a buffer that adapts its size within the given bounds.
+     * @param channel The channel to read from
+     * @param minBufferCapacity The initial, and smallest, capacity of the buffer.
+     * @param maxBufferCapacity The largest capacity the buffer grows to.
+     */
+    public BufferingChunkedInput( ReadableByteChannel channel, int minBufferCapacity, int maxBufferCapacity )
+    {
+        this( channel, minBufferCapacity, maxBufferCapacity, ByteBufferPool.unpooled() );
+    }
+
+    /**
+     * Creates a BufferingChunkedInput from a given channel with a buffer that adapts its size within the given bounds,
+     * and that is taken from the given pool only while reading.
+     * @param channel The channel to read from
+     * @param minBufferCapacity The initial, and smallest, capacity of the buffer.
+     * @param maxBufferCapacity The largest capacity the buffer grows to.
+     * @param bufferPool The pool to take the buffer from.
+     */
+    public BufferingChunkedInput( ReadableByteChannel channel, int minBufferCapacity, int maxBufferCapacity,
+            ByteBufferPool bufferPool )
+    {
+        assert minBufferCapacity >= 1 && maxBufferCapacity >= minBufferCapacity;
+        this.minBufferCapacity = minBufferCapacity;
+        this.maxBufferCapacity = maxBufferCapacity;
+        this.nextBufferCapacity = minBufferCapacity;
+        this.bufferPool = bufferPool;
         this.scratchBuffer = ByteBuffer.allocate( 8 ).order( ByteOrder.BIG_ENDIAN );
         this.channel = channel;
         this.state = State.AWAITING_CHUNK;
@@ -97,6 +153,22 @@ public class BufferingChunkedInput implements PackInput
         return remainingChunkSize;
     }
 
+    /*
+     * Use only in tests
+     */
+    int bufferCapacity()
+    {
+        return buffer.capacity();
+    }
+
+    /*
+     * Use only in tests
+     */
+    boolean holdsBuffer()
+    {
+        return buffer != NO_BUFFER;
+    }
+
 
     @Override
     public boolean hasMoreData() throws IOException
@@ -107,6 +179,11 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public byte readByte() throws IOException
     {
+        if ( canReadDirectly( 1 ) )
+        {
+            remainingChunkSize -= 1;
+            return buffer.get();
+        }
         fillScratchBuffer( 1 );
         return scratchBuffer.get();
     }
@@ -114,6 +191,11 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public short readShort() throws IOException
     {
+        if ( canReadDirectly( 2 ) )
+        {
+            remainingChunkSize -= 2;
+            return buffer.getShort();
+        }
         fillScratchBuffer( 2 );
         return scratchBuffer.getShort();
     }
@@ -121,6 +203,11 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public int readInt() throws IOException
     {
+        if ( canReadDirectly( 4 ) )
+        {
+            remainingChunkSize -= 4;
+            return buffer.getInt();
+        }
         fillScratchBuffer( 4 );
         return scratchBuffer.getInt();
     }
@@ -128,6 +215,11 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public long readLong() throws IOException
     {
+        if ( canReadDirectly( 8 ) )
+        {
+            remainingChunkSize -= 8;
+            return buffer.getLong();
+        }
         fillScratchBuffer( 8 );
         return scratchBuffer.getLong();
     }
@@ -135,6 +227,11 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public double readDouble() throws IOException
     {
+        if ( canReadDirectly( 8 ) )
+        {
+            remainingChunkSize -= 8;
+            return buffer.getDouble();
+        }
         fillScratchBuffer( 8 );
         return scratchBuffer.getDouble();
     }
@@ -142,6 +239,12 @@ public class BufferingChunkedInput implements PackInput
     @Override
     public PackInput readBytes( byte[] into, int offset, int toRead ) throws IOException
     {
+        if ( canReadDirectly( toRead ) )
+        {
+            remainingChunkSize -= toRead;
+            buffer.get( into, offset, toRead );
+            return this;
+        }
         ByteBuffer dst = ByteBuffer.wrap( into, offset, toRead );
         read( dst );
         return this;
@@ -187,6 +290,7 @@ public class BufferingChunkedInput implements PackInput
                                                BytePrinter.hex( ByteBuffer.allocate( 2 )
                                                        .putShort( (short) remainingChunkSize ) ) );
                 }
+                releaseBufferIfDrained();
             }
             catch ( IOException e )
             {
@@ -201,6 +305,16 @@ public class BufferingChunkedInput implements PackInput
         return this.onMessageComplete;
     }
 
+    /**
+     * Checks if the given number of bytes can be decoded straight from the main buffer, which is the case unless
+     * they span a chunk boundary or the end of the data read so far. Otherwise they have to be assembled in the
+     * scratch buffer.
+     */
+    private boolean canReadDirectly( int bytesToRead )
+    {
+        return state == State.IN_CHUNK && remainingChunkSize >= bytesToRead && buffer.remaining() >= bytesToRead;
+    }
+
     /**
      * Fills the scratch buffet with data from the main buffer. If there is not
      * enough data in the buffer more data will be read from the channel.
@@ -261,7 +375,7 @@ public class BufferingChunkedInput implements PackInput
                     remainingChunkSize -= bytesToRead;
                     if ( !buffer.hasRemaining() )
                     {
-                        readNextPacket( channel, buffer );
+                        readNextPacket();
                     }
                 }
                 else
@@ -312,7 +426,7 @@ public class BufferingChunkedInput implements PackInput
                 else if ( buffer.remaining() == 0 )
                 {
                     //no data in buffer, fill it up an try again
-                    readNextPacket( channel, buffer );
+                    readNextPacket();
                 }
                 else
                 {
@@ -342,7 +456,7 @@ public class BufferingChunkedInput implements PackInput
                     //buffer empty, block until you get at least at least one byte
                     while ( buffer.remaining() == 0 )
                     {
-                        readNextPacket( channel, buffer );
+                        readNextPacket();
                     }
                 }
                 else if ( buffer.remaining() >= 2 )
@@ -386,7 +500,7 @@ public class BufferingChunkedInput implements PackInput
                 else
                 {
                     //Buffer is empty, fill it up and try again
-                    readNextPacket( channel, buffer );
+                    readNextPacket();
                 }
                 break;
             }
@@ -394,17 +508,21 @@ public class BufferingChunkedInput implements PackInput
     }
 
     /**
-     * Read data from the underlying channel into the buffer.
-     * @param channel The channel to read from.
-     * @param buffer The buffer to read into
+     * Read data from the underlying channel into the buffer, resizing the buffer first if previous reads asked for it.
      * @throws IOException
      */
-    private static void readNextPacket( ReadableByteChannel channel, ByteBuffer buffer ) throws IOException
+    private void readNextPacket() throws IOException
     {
         assert !buffer.hasRemaining();
 
         try
         {
+            if ( buffer.capacity() != nextBufferCapacity )
+            {
+                // Safe to replace, as there is no unread data left in the buffer
+                bufferPool.release( buffer );
+                buffer = bufferPool.acquire( nextBufferCapacity );
+            }
             buffer.clear();
             int read = channel.read( buffer );
             if ( read == -1 )
@@ -414,6 +532,7 @@ public class BufferingChunkedInput implements PackInput
                         "instabilities, or due to restarts of the database.");
             }
             buffer.flip();
+            adaptBufferCapacity( read );
         }
         catch ( ClosedByInterruptException e )
         {
@@ -432,18 +551,57 @@ public class BufferingChunkedInput implements PackInput
         }
     }
 
+    /**
+     * Hand the main buffer back to the pool if all data in it has been read.
+     */
+    private void releaseBufferIfDrained()
+    {
+        if ( buffer != NO_BUFFER && !buffer.hasRemaining() )
+        {
+            bufferPool.release( buffer );
+            buffer = NO_BUFFER;
+        }
+    }
+
+    /**
+     * Decide the buffer capacity for the next read, based on how much of the buffer the last read used.
+     * @param bytesRead The number of bytes the last read returned.
+     */
+    private void adaptBufferCapacity( int bytesRead )
+    {
+        int capacity = buffer.capacity();
+        if ( bytesRead == capacity )
+        {
+            // More data is likely waiting, read more of it at a time
+            nextBufferCapacity = (int) min( (long) capacity * 2, maxBufferCapacity );
+            smallReads = 0;
+        }
+        else if ( bytesRead < capacity / 4 && capacity > minBufferCapacity )
+        {
+            smallReads += 1;
+            if ( smallReads >= SMALL_READS_BEFORE_SHRINK )
+            {
+                nextBufferCapacity = max( capacity / 2, minBufferCapacity );
+                smallReads = 0;
+            }
+        }
+        else
+        {
+            smallReads = 0;
+        }
+    }
+
     /**
      * Copy data from the buffer into the scratch buffer
      */
     private static void copyBytes( ByteBuffer from, ByteBuffer to, int bytesToRead )
     {
-        //Use a temporary buffer and move over in one go
-        ByteBuffer temporaryBuffer = from.duplicate();
-        temporaryBuffer.limit( temporaryBuffer.position() + bytesToRead );
-        to.put( temporaryBuffer );
-
-        //move position so it looks like we have read from buffer
-        from.position( from.position() + bytesToRead );
+        //Narrow the buffer to the bytes to copy and move them over in one go, this moves the position
+        //so it looks like we have read from buffer
+        int limit = from.limit();
+        from.limit( from.position() + bytesToRead );
+        to.put( from );
+        from.limit( limit );
     }
 
 }
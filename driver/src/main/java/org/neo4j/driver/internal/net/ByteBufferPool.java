@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers used for network I/O, shared by all connections of a driver. Connections only hold on to buffers while
+ * they are sending or receiving messages, so idle connections do not occupy any buffer memory.
+ *
+ * Pooled buffers are direct, which saves the JDK from copying heap buffers into temporary direct buffers on every
+ * socket read and write. Buffers are pooled per size, and only a limited number of each size is kept around.
+ */
+public class ByteBufferPool
+{
+    public static final int DEFAULT_MAX_POOLED_BUFFERS_PER_SIZE = 64;
+
+    private static final ByteBufferPool UNPOOLED = new ByteBufferPool( 0, false );
+
+    private final ConcurrentMap<Integer,SizeClass> sizeClasses = new ConcurrentHashMap<>();
+    private final int maxPooledBuffersPerSize;
+    private final boolean direct;
+
+    public ByteBufferPool()
+    {
+        this( DEFAULT_MAX_POOLED_BUFFERS_PER_SIZE, true );
+    }
+
+    public ByteBufferPool( int maxPooledBuffersPerSize, boolean direct )
+    {
+        this.maxPooledBuffersPerSize = maxPooledBuffersPerSize;
+        this.direct = direct;
+    }
+
+    /**
+     * @return a pool that allocates a new heap buffer every time one is acquired, and keeps none
+     */
+    public static ByteBufferPool unpooled()
+    {
+        return UNPOOLED;
+    }
+
+    /**
+     * Take a cleared buffer of exactly the given capacity from the pool, allocating one if there is none.
+     * @param capacity the capacity of the buffer
+     * @return a buffer of the given capacity, in big endian order
+     */
+    public ByteBuffer acquire( int capacity )
+    {
+        SizeClass sizeClass = sizeClasses.get( capacity );
+        if ( sizeClass != null )
+        {
+            ByteBuffer buffer = sizeClass.buffers.poll();
+            if ( buffer != null )
+            {
+                sizeClass.size.decrementAndGet();
+                buffer.clear();
+                return buffer;
+            }
+        }
+        return direct ? ByteBuffer.allocateDirect( capacity ) : ByteBuffer.allocate( capacity );
+    }
+
+    /**
+     * Hand a buffer back to the pool, the buffer must not be used by the caller afterwards.
+     * @param buffer the buffer to return
+     */
+    public void release( ByteBuffer buffer )
+    {
+        if ( maxPooledBuffersPerSize <= 0 || buffer.capacity() == 0 )
+        {
+            return;
+        }
+        SizeClass sizeClass = sizeClassOf( buffer.capacity() );
+        if ( sizeClass.size.incrementAndGet() <= maxPooledBuffersPerSize )
+        {
+            sizeClass.buffers.offer( buffer );
+        }
+        else
+        {
+            // Enough of these around already, leave this one to the garbage collector
+            sizeClass.size.decrementAndGet();
+        }
+    }
+
+    //For testing
+    int pooledBuffers( int capacity )
+    {
+        SizeClass sizeClass = sizeClasses.get( capacity );
+        return sizeClass == null ? 0 : sizeClass.size.get();
+    }
+
+    private SizeClass sizeClassOf( int capacity )
+    {
+        SizeClass sizeClass = sizeClasses.get( capacity );
+        if ( sizeClass == null )
+        {
+            SizeClass newSizeClass = new SizeClass();
+            sizeClass = sizeClasses.putIfAbsent( capacity, newSizeClass );
+            if ( sizeClass == null )
+            {
+                sizeClass = newSizeClass;
+            }
+        }
+        return sizeClass;
+    }
+
+    private static class SizeClass
+    {
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
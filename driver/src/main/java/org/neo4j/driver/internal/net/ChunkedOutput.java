@@ -20,19 +20,35 @@ package org.neo4j.driver.internal.net;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.WritableByteChannel;
 
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.v1.exceptions.ClientException;
 
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 
+/**
+ * ChunkedOutput writes messages in chunks through a buffer. The buffer is taken from a {@link ByteBufferPool} when
+ * writing starts, and handed back when it is flushed.
+ *
+ * Byte arrays too large for the buffer, such as big string or byte array parameters, are not copied into it when the
+ * channel supports gathering writes. Instead they are written straight from the array, in chunks of their own,
+ * together with the buffered data in a single write.
+ */
 public class ChunkedOutput implements PackOutput
 {
     public static final short MESSAGE_BOUNDARY = 0;
     public static final int CHUNK_HEADER_SIZE = 2;
+    public static final int MAX_CHUNK_SIZE = 0xFFFF;
 
-    private final ByteBuffer buffer;
+    /** Stands in for the buffer while none is taken from the pool */
+    private static final ByteBuffer NO_BUFFER = ByteBuffer.allocate( 0 );
+
+    private final int bufferSize;
+    private final ByteBufferPool bufferPool;
+    private ByteBuffer buffer = NO_BUFFER;
     private final WritableByteChannel channel;
 
     /** The chunk header */
@@ -43,12 +59,23 @@ public class ChunkedOutput implements PackOutput
 
     public ChunkedOutput( WritableByteChannel ch )
     {
-        this( 8192, ch );
+        this( ch, ByteBufferPool.unpooled() );
+    }
+
+    public ChunkedOutput( WritableByteChannel ch, ByteBufferPool bufferPool )
+    {
+        this( 8192, ch, bufferPool );
     }
 
     public ChunkedOutput( int bufferSize, WritableByteChannel ch )
     {
-        buffer = ByteBuffer.allocate(  max( 16, bufferSize ) );
+        this( bufferSize, ch, ByteBufferPool.unpooled() );
+    }
+
+    public ChunkedOutput( int bufferSize, WritableByteChannel ch, ByteBufferPool bufferPool )
+    {
+        this.bufferSize = max( 16, bufferSize );
+        this.bufferPool = bufferPool;
         chunkOpen = false;
         channel = ch;
     }
@@ -56,11 +83,21 @@ public class ChunkedOutput implements PackOutput
     @Override
     public PackOutput flush() throws IOException
     {
+        if ( buffer == NO_BUFFER )
+        {
+            return this;
+        }
+
         closeChunkIfOpen();
 
         buffer.flip();
-        channel.write( buffer );
-        buffer.clear();
+        // channels are free to write only part of the buffer, e.g. when the socket send buffer is full
+        while ( buffer.hasRemaining() )
+        {
+            channel.write( buffer );
+        }
+        bufferPool.release( buffer );
+        buffer = NO_BUFFER;
 
         return this;
     }
@@ -108,6 +145,12 @@ public class ChunkedOutput implements PackOutput
     @Override
     public PackOutput writeBytes( byte[] data, int offset, int length ) throws IOException
     {
+        if ( length > bufferSize && channel instanceof GatheringByteChannel )
+        {
+            writeBytesDirectly( (GatheringByteChannel) channel, data, offset, length );
+            return this;
+        }
+
         while ( offset < length )
         {
             // Ensure there is an open chunk, and that it has at least one byte of space left
@@ -122,6 +165,43 @@ public class ChunkedOutput implements PackOutput
         return this;
     }
 
+    /**
+     * Write what is buffered, followed by the given bytes in chunks of their own, in one gathering write.
+     */
+    private void writeBytesDirectly( GatheringByteChannel channel, byte[] data, int offset, int length )
+            throws IOException
+    {
+        closeChunkIfOpen();
+
+        int chunks = (length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        ByteBuffer[] buffers = new ByteBuffer[1 + 2 * chunks];
+        if ( buffer != NO_BUFFER )
+        {
+            buffer.flip();
+        }
+        buffers[0] = buffer;
+        for ( int i = 0; i < chunks; i++ )
+        {
+            int chunkSize = min( MAX_CHUNK_SIZE, length - i * MAX_CHUNK_SIZE );
+            ByteBuffer header = ByteBuffer.allocate( CHUNK_HEADER_SIZE );
+            header.putShort( (short) chunkSize ).flip();
+            buffers[1 + 2 * i] = header;
+            buffers[2 + 2 * i] = ByteBuffer.wrap( data, offset + i * MAX_CHUNK_SIZE, chunkSize );
+        }
+
+        long remaining = buffer.remaining() + (long) chunks * CHUNK_HEADER_SIZE + length;
+        while ( remaining > 0 )
+        {
+            remaining -= channel.write( buffers );
+        }
+
+        if ( buffer != NO_BUFFER )
+        {
+            bufferPool.release( buffer );
+            buffer = NO_BUFFER;
+        }
+    }
+
     private void closeChunkIfOpen()
     {
         if( chunkOpen )
@@ -135,10 +215,7 @@ public class ChunkedOutput implements PackOutput
     private PackOutput ensure( int size ) throws IOException
     {
         int toWriteSize = chunkOpen ? size : size + CHUNK_HEADER_SIZE;
-        if ( buffer.remaining() < toWriteSize )
-        {
-            flush();
-        }
+        ensureBufferSpace( toWriteSize );
 
         if ( !chunkOpen )
         {
@@ -150,6 +227,18 @@ public class ChunkedOutput implements PackOutput
         return this;
     }
 
+    /**
+     * Make sure there is a buffer with room for the given number of bytes, flushing the current buffer if it is full.
+     */
+    private void ensureBufferSpace( int size ) throws IOException
+    {
+        if ( buffer.remaining() < size )
+        {
+            flush();
+            buffer = bufferPool.acquire( bufferSize );
+        }
+    }
+
     private Runnable onMessageComplete = new Runnable()
     {
         @Override
@@ -160,10 +249,7 @@ public class ChunkedOutput implements PackOutput
                 closeChunkIfOpen();
 
                 // Ensure there's space to write the message boundary
-                if ( buffer.remaining() < CHUNK_HEADER_SIZE )
-                {
-                    flush();
-                }
+                ensureBufferSpace( CHUNK_HEADER_SIZE );
 
                 // Write message boundary
                 buffer.putShort( MESSAGE_BOUNDARY );
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+import static java.lang.String.format;
+
+/**
+ * A {@link SocketChannel} wrapper whose reads give up with a {@link SocketTimeoutException} when no data arrives
+ * within the given timeout.
+ *
+ * The channel is switched to non-blocking mode, and reads that find no data wait for the channel to become readable
+ * on a {@link Selector} of its own. Writes wait the same way until all bytes are written, without a timeout, so to
+ * callers the channel behaves like a blocking one. Reads and writes go to the channel directly, so direct buffers
+ * are not copied and gathering writes keep working.
+ */
+public class ReadTimeoutByteChannel implements ByteChannel, GatheringByteChannel
+{
+    private final SocketChannel delegate;
+    private final int readTimeout;
+    private final Selector selector;
+    private final SelectionKey key;
+
+    public ReadTimeoutByteChannel( SocketChannel delegate, int readTimeout ) throws IOException
+    {
+        this.delegate = delegate;
+        this.readTimeout = readTimeout;
+        this.selector = Selector.open();
+        try
+        {
+            delegate.configureBlocking( false );
+            this.key = delegate.register( selector, 0 );
+        }
+        catch ( IOException e )
+        {
+            selector.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read( ByteBuffer buf ) throws IOException
+    {
+        while ( true )
+        {
+            int read = delegate.read( buf );
+            if ( read != 0 || !buf.hasRemaining() )
+            {
+                return read;
+            }
+            if ( !await( SelectionKey.OP_READ, readTimeout ) )
+            {
+                throw new SocketTimeoutException( format( "No data received within %sms", readTimeout ) );
+            }
+        }
+    }
+
+    @Override
+    public int write( ByteBuffer buf ) throws IOException
+    {
+        int written = 0;
+        while ( buf.hasRemaining() )
+        {
+            int n = delegate.write( buf );
+            if ( n == 0 )
+            {
+                await( SelectionKey.OP_WRITE, 0 );
+            }
+            written += n;
+        }
+        return written;
+    }
+
+    @Override
+    public long write( ByteBuffer[] srcs, int offset, int length ) throws IOException
+    {
+        long written = 0;
+        while ( hasRemaining( srcs, offset, length ) )
+        {
+            long n = delegate.write( srcs, offset, length );
+            if ( n == 0 )
+            {
+                await( SelectionKey.OP_WRITE, 0 );
+            }
+            written += n;
+        }
+        return written;
+    }
+
+    @Override
+    public long write( ByteBuffer[] srcs ) throws IOException
+    {
+        return write( srcs, 0, srcs.length );
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            delegate.close();
+        }
+        finally
+        {
+            selector.close();
+        }
+    }
+
+    /**
+     * @param timeout in milliseconds, 0 to wait for as long as it takes
+     * @return false if the timeout passed before the channel became ready
+     */
+    private boolean await( int operation, int timeout ) throws IOException
+    {
+        long deadline = System.currentTimeMillis() + timeout;
+        key.interestOps( operation );
+        try
+        {
+            while ( true )
+            {
+                long wait = 0;
+                if ( timeout > 0 )
+                {
+                    wait = deadline - System.currentTimeMillis();
+                    if ( wait <= 0 )
+                    {
+                        return false;
+                    }
+                }
+                if ( selector.select( wait ) > 0 )
+                {
+                    selector.selectedKeys().clear();
+                    return true;
+                }
+                if ( Thread.currentThread().isInterrupted() )
+                {
+                    // select returns right away for interrupted threads, rather than throwing like blocking I/O
+                    throw new InterruptedIOException( "Interrupted while waiting for the network" );
+                }
+            }
+        }
+        finally
+        {
+            key.interestOps( 0 );
+        }
+    }
+
+    private static boolean hasRemaining( ByteBuffer[] buffers, int offset, int length )
+    {
+        for ( int i = offset; i < offset + length; i++ )
+        {
+            if ( buffers[i].hasRemaining() )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
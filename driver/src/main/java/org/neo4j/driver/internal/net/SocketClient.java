@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.net;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.net.SocketTimeoutException;
 import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
@@ -27,11 +28,13 @@ import java.nio.channels.SocketChannel;
 import java.security.GeneralSecurityException;
 import java.util.Queue;
 
+import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.security.TLSSocketChannel;
 import org.neo4j.driver.internal.util.BytePrinter;
+import org.neo4j.driver.v1.AuthTokens;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ConnectionFailureException;
@@ -49,6 +52,8 @@ public class SocketClient
 
     private final BoltServerAddress address;
     private final SecurityPlan securityPlan;
+    private final ConnectionSettings connectionSettings;
+    private final ByteBufferPool bufferPool;
     private final Logger logger;
 
     private SocketProtocol protocol;
@@ -58,9 +63,17 @@ public class SocketClient
     private ByteChannel channel;
 
     public SocketClient( BoltServerAddress address, SecurityPlan securityPlan, Logger logger )
+    {
+        this( address, securityPlan, new ConnectionSettings( AuthTokens.none() ), ByteBufferPool.unpooled(), logger );
+    }
+
+    public SocketClient( BoltServerAddress address, SecurityPlan securityPlan, ConnectionSettings connectionSettings,
+            ByteBufferPool bufferPool, Logger logger )
     {
         this.address = address;
         this.securityPlan = securityPlan;
+        this.connectionSettings = connectionSettings;
+        this.bufferPool = bufferPool;
         this.logger = logger;
         this.channel = null;
     }
@@ -105,7 +118,7 @@ public class SocketClient
         try
         {
             logger.debug( "~~ [CONNECT] %s", address );
-            setChannel( ChannelFactory.create( address, securityPlan, logger ) );
+            setChannel( ChannelFactory.create( address, securityPlan, connectionSettings.socketSettings(), logger ) );
             protocol = negotiateProtocol();
             reader = protocol.reader();
             writer = protocol.writer();
@@ -116,6 +129,13 @@ public class SocketClient
                     "Unable to connect to %s, ensure the database is running and that there is a " +
                     "working network connection to it.", address ) );
         }
+        catch ( SocketTimeoutException e )
+        {
+            // the connect timeout is handled by the channel factory, this is the handshake timing out
+            throw new ConnectionFailureException( format(
+                    "Unable to connect to %s, the database did not complete the connection handshake within the " +
+                    "read timeout of %sms.", address, connectionSettings.socketSettings().readTimeout() ), e );
+        }
         catch ( IOException e )
         {
             throw new ClientException( "Unable to process request: " + e.getMessage(), e );
@@ -242,7 +262,8 @@ public class SocketClient
         {
         case VERSION1:
             logger.debug( "S: [HANDSHAKE] -> 1" );
-            return new SocketProtocolV1( channel );
+            return new SocketProtocolV1( channel, connectionSettings.minReadBufferSize(),
+                    connectionSettings.maxReadBufferSize(), bufferPool );
         case NO_VERSION:
             throw new ClientException( "The server does not support any of the protocol versions supported by " +
                                        "this driver. Ensure that you are using driver and server versions that " +
@@ -266,23 +287,49 @@ public class SocketClient
 
     private static class ChannelFactory
     {
-        public static ByteChannel create( BoltServerAddress address, SecurityPlan securityPlan, Logger logger )
-                throws IOException, GeneralSecurityException
+        public static ByteChannel create( BoltServerAddress address, SecurityPlan securityPlan,
+                SocketSettings socketSettings, Logger logger ) throws IOException, GeneralSecurityException
         {
             SocketChannel soChannel = SocketChannel.open();
             soChannel.setOption( StandardSocketOptions.SO_REUSEADDR, true );
             soChannel.setOption( StandardSocketOptions.SO_KEEPALIVE, true );
-            soChannel.connect( address.toSocketAddress() );
+            soChannel.setOption( StandardSocketOptions.TCP_NODELAY, socketSettings.tcpNoDelay() );
+            if ( socketSettings.sendBufferSize() != SocketSettings.OS_DEFAULT_BUFFER_SIZE )
+            {
+                soChannel.setOption( StandardSocketOptions.SO_SNDBUF, socketSettings.sendBufferSize() );
+            }
+            if ( socketSettings.receiveBufferSize() != SocketSettings.OS_DEFAULT_BUFFER_SIZE )
+            {
+                // set before connecting, so that a window scale matching the buffer can be negotiated
+                soChannel.setOption( StandardSocketOptions.SO_RCVBUF, socketSettings.receiveBufferSize() );
+            }
+            try
+            {
+                soChannel.socket().connect( address.toSocketAddress(), socketSettings.connectTimeout() );
+            }
+            catch ( SocketTimeoutException e )
+            {
+                soChannel.close();
+                throw new ConnectionFailureException( format(
+                        "Unable to connect to %s within %sms, ensure the database is running and that there is a " +
+                        "working network connection to it.", address, socketSettings.connectTimeout() ) );
+            }
+            catch ( IOException e )
+            {
+                soChannel.close();
+                throw e;
+            }
 
-            ByteChannel channel;
+            ByteChannel channel = soChannel;
 
-            if (securityPlan.requiresEncryption())
+            if ( socketSettings.readTimeout() != SocketSettings.NO_READ_TIMEOUT )
             {
-                channel = new TLSSocketChannel( address, securityPlan, soChannel, logger );
+                channel = new ReadTimeoutByteChannel( soChannel, socketSettings.readTimeout() );
             }
-            else
+
+            if (securityPlan.requiresEncryption())
             {
-                channel = soChannel;
+                channel = new TLSSocketChannel( address, securityPlan, channel, logger );
             }
 
             if ( logger.isTraceEnabled() )
@@ -25,12 +25,14 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.messaging.InitMessage;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.RunMessage;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.AuthTokens;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Value;
@@ -51,8 +53,15 @@ public class SocketConnection implements Connection
     private final Collector.InitCollector initCollector = new Collector.InitCollector();
 
     private final SocketClient socket;
+    private final boolean coalesceMessages;
 
     public SocketConnection( BoltServerAddress address, SecurityPlan securityPlan, Logging logging )
+    {
+        this( address, securityPlan, new ConnectionSettings( AuthTokens.none() ), ByteBufferPool.unpooled(), logging );
+    }
+
+    public SocketConnection( BoltServerAddress address, SecurityPlan securityPlan,
+            ConnectionSettings connectionSettings, ByteBufferPool bufferPool, Logging logging )
     {
         Logger logger = logging.getLog( String.valueOf( System.currentTimeMillis() ) );
 
@@ -65,10 +74,19 @@ public class SocketConnection implements Connection
             this.responseHandler = new SocketResponseHandler();
         }
 
-        this.socket = new SocketClient( address, securityPlan, logger );
+        this.socket = new SocketClient( address, securityPlan, connectionSettings, bufferPool, logger );
+        this.coalesceMessages = connectionSettings.messageCoalescing();
         socket.start();
     }
 
+    // for testing
+    SocketConnection( SocketClient socket, SocketResponseHandler responseHandler, boolean coalesceMessages )
+    {
+        this.socket = socket;
+        this.responseHandler = responseHandler;
+        this.coalesceMessages = coalesceMessages;
+    }
+
     @Override
     public void init( String clientName, Map<String,Value> authToken )
     {
@@ -118,6 +136,15 @@ public class SocketConnection implements Connection
     {
         ensureNotInterrupted();
 
+        if ( !coalesceMessages )
+        {
+            sendPendingMessages();
+        }
+        // otherwise pending messages are sent along with the ones that follow, right before a reply is needed
+    }
+
+    private synchronized void sendPendingMessages()
+    {
         try
         {
             socket.send( pendingMessages );
@@ -154,6 +181,7 @@ public class SocketConnection implements Connection
 
     private void receiveAll()
     {
+        sendCoalescedMessages();
         try
         {
             socket.receiveAll( responseHandler );
@@ -168,6 +196,7 @@ public class SocketConnection implements Connection
     @Override
     public void receiveOne()
     {
+        sendCoalescedMessages();
         try
         {
             socket.receiveOne( responseHandler );
@@ -179,6 +208,15 @@ public class SocketConnection implements Connection
         }
     }
 
+    private void sendCoalescedMessages()
+    {
+        // replies may be waited for only once the messages they are replies to have been sent
+        if ( coalesceMessages )
+        {
+            sendPendingMessages();
+        }
+    }
+
     private void assertNoServerFailure()
     {
         if ( responseHandler.serverFailureOccurred() )
@@ -251,7 +289,9 @@ public class SocketConnection implements Connection
                 isAckFailureMuted.set( false );
             }
         } ) );
-        flush();
+        // always sent right away, as the point is to stop the statement running on the server
+        ensureNotInterrupted();
+        sendPendingMessages();
         isInterrupted.set( true );
         isAckFailureMuted.set( true );
     }
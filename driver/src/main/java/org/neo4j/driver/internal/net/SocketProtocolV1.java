@@ -33,11 +33,19 @@ public class SocketProtocolV1 implements SocketProtocol
     private final Writer writer;
 
     public SocketProtocolV1( ByteChannel channel ) throws IOException
+    {
+        this( channel, BufferingChunkedInput.STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE,
+                BufferingChunkedInput.DEFAULT_MAX_BUFFER_SIZE, ByteBufferPool.unpooled() );
+    }
+
+    public SocketProtocolV1( ByteChannel channel, int minReadBufferSize, int maxReadBufferSize,
+            ByteBufferPool bufferPool ) throws IOException
     {
         messageFormat = new PackStreamMessageFormatV1();
 
-        ChunkedOutput output = new ChunkedOutput( channel );
-        BufferingChunkedInput input = new BufferingChunkedInput( channel );
+        ChunkedOutput output = new ChunkedOutput( channel, bufferPool );
+        BufferingChunkedInput input =
+                new BufferingChunkedInput( channel, minReadBufferSize, maxReadBufferSize, bufferPool );
 
         this.writer = new PackStreamMessageFormatV1.Writer( output, output.messageBoundaryHook() );
         this.reader = new PackStreamMessageFormatV1.Reader( input, input.messageBoundaryHook() );
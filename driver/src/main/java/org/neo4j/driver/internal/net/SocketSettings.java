@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Options applied to the TCP socket of every connection.
+ */
+public class SocketSettings
+{
+    public static SocketSettings defaultSettings()
+    {
+        return new SocketSettings( DEFAULT_TCP_NO_DELAY, OS_DEFAULT_BUFFER_SIZE, OS_DEFAULT_BUFFER_SIZE,
+                DEFAULT_CONNECT_TIMEOUT, NO_READ_TIMEOUT );
+    }
+
+    public static final boolean DEFAULT_TCP_NO_DELAY = true;
+    public static final int OS_DEFAULT_BUFFER_SIZE = 0;
+    public static final int DEFAULT_CONNECT_TIMEOUT = (int) TimeUnit.SECONDS.toMillis( 5 );
+    public static final int NO_READ_TIMEOUT = 0;
+
+    /**
+     * Whether Nagle's algorithm is disabled, so that small messages are sent without delay.
+     */
+    private final boolean tcpNoDelay;
+
+    /**
+     * Sizes, in bytes, of the socket send and receive buffers, or {@link #OS_DEFAULT_BUFFER_SIZE}.
+     */
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+
+    /**
+     * Maximum time, in milliseconds, to wait for a connection to be established. Zero means no timeout.
+     */
+    private final int connectTimeout;
+
+    /**
+     * Maximum time, in milliseconds, a single read waits for data from the server. Zero means no timeout.
+     */
+    private final int readTimeout;
+
+    public SocketSettings( boolean tcpNoDelay, int sendBufferSize, int receiveBufferSize, int connectTimeout,
+            int readTimeout )
+    {
+        this.tcpNoDelay = tcpNoDelay;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    public boolean tcpNoDelay()
+    {
+        return tcpNoDelay;
+    }
+
+    public int sendBufferSize()
+    {
+        return sendBufferSize;
+    }
+
+    public int receiveBufferSize()
+    {
+        return receiveBufferSize;
+    }
+
+    public int connectTimeout()
+    {
+        return connectTimeout;
+    }
+
+    public int readTimeout()
+    {
+        return readTimeout;
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Completes once all the given futures have completed, failing with the first failure among them if any. Waiting
+ * for it does not take up a thread of the executor the futures run on.
+ */
+class CompositeFuture implements Future<Void>
+{
+    private final List<Future<Void>> futures;
+
+    CompositeFuture( List<Future<Void>> futures )
+    {
+        this.futures = futures;
+    }
+
+    @Override
+    public boolean cancel( boolean mayInterruptIfRunning )
+    {
+        boolean cancelled = false;
+        for ( Future<Void> future : futures )
+        {
+            cancelled |= future.cancel( mayInterruptIfRunning );
+        }
+        return cancelled;
+    }
+
+    @Override
+    public boolean isCancelled()
+    {
+        for ( Future<Void> future : futures )
+        {
+            if ( future.isCancelled() )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isDone()
+    {
+        for ( Future<Void> future : futures )
+        {
+            if ( !future.isDone() )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Void get() throws InterruptedException, ExecutionException
+    {
+        ExecutionException failure = null;
+        for ( Future<Void> future : futures )
+        {
+            try
+            {
+                future.get();
+            }
+            catch ( ExecutionException e )
+            {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if ( failure != null )
+        {
+            throw failure;
+        }
+        return null;
+    }
+
+    @Override
+    public Void get( long timeout, TimeUnit unit ) throws InterruptedException, ExecutionException, TimeoutException
+    {
+        long deadline = System.nanoTime() + unit.toNanos( timeout );
+        ExecutionException failure = null;
+        for ( Future<Void> future : futures )
+        {
+            try
+            {
+                future.get( deadline - System.nanoTime(), TimeUnit.NANOSECONDS );
+            }
+            catch ( ExecutionException e )
+            {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if ( failure != null )
+        {
+            throw failure;
+        }
+        return null;
+    }
+}
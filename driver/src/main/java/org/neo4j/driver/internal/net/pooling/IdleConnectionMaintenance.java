@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.neo4j.driver.v1.Logger;
+
+/**
+ * Background task that keeps the idle connections of a {@link SocketConnectionPool} healthy, so that this work does
+ * not have to happen on the application threads that acquire and release connections.
+ * <p>
+ * On every run, and for every server, it
+ * <ul>
+ * <li>closes connections that have been idle for longer than
+ * {@link PoolSettings#idleTimeBeforeConnectionEviction()},</li>
+ * <li>pings connections that have not been verified for longer than
+ * {@link PoolSettings#idleTimeBeforeConnectionTest()} and closes the ones that do not respond,</li>
+ * <li>opens new connections until there are {@link PoolSettings#minIdleConnectionPoolSize()} idle ones.</li>
+ * </ul>
+ * Connections are only touched while holding one of the server's permits, so maintenance never pushes the number of
+ * connections above {@link PoolSettings#maxConnectionPoolSize()}, and never delays callers waiting for a connection.
+ */
+class IdleConnectionMaintenance implements Runnable
+{
+    private final SocketConnectionPool pool;
+    private final PoolSettings poolSettings;
+    private final PooledConnectionValidator validator;
+    private final AtomicBoolean stopped;
+    private final Logger log;
+
+    IdleConnectionMaintenance( SocketConnectionPool pool, PoolSettings poolSettings, AtomicBoolean stopped,
+            Logger log )
+    {
+        this.pool = pool;
+        this.poolSettings = poolSettings;
+        this.validator = new PooledConnectionValidator( pool, poolSettings );
+        this.stopped = stopped;
+        this.log = log;
+    }
+
+    @Override
+    public void run()
+    {
+        for ( ServerPool serverPool : pool.serverPools() )
+        {
+            if ( stopped.get() )
+            {
+                return;
+            }
+            try
+            {
+                maintain( serverPool );
+            }
+            catch ( Throwable e )
+            {
+                // never let an error escape, as that would cancel all future runs
+                log.error( "Failed to maintain the connection pool of " + serverPool.address(), e );
+            }
+        }
+    }
+
+    void maintain( ServerPool serverPool )
+    {
+        BlockingQueue<PooledConnection> connections = serverPool.idleConnections();
+        int idleCount = connections.size();
+        for ( int i = 0; i < idleCount && !stopped.get(); i++ )
+        {
+            if ( !serverPool.tryAcquirePermit() )
+            {
+                // all connections are in use or callers are waiting, leave the idle ones to them
+                return;
+            }
+            try
+            {
+                PooledConnection conn = connections.poll();
+                if ( conn == null )
+                {
+                    return;
+                }
+                if ( isExpired( conn, connections ) || !validator.isLive( conn ) )
+                {
+                    pool.dispose( conn );
+                }
+                else
+                {
+                    pool.park( conn, serverPool );
+                }
+            }
+            finally
+            {
+                serverPool.releasePermit();
+            }
+        }
+        fill( serverPool );
+    }
+
+    private boolean isExpired( PooledConnection conn, BlockingQueue<PooledConnection> connections )
+    {
+        return poolSettings.idleConnectionEvictionEnabled() &&
+               conn.idleTime() > poolSettings.idleTimeBeforeConnectionEviction() &&
+               connections.size() >= poolSettings.minIdleConnectionPoolSize();
+    }
+
+    private void fill( ServerPool serverPool )
+    {
+        int minIdle = poolSettings.minIdleConnectionPoolSize();
+        try
+        {
+            while ( !stopped.get() && pool.openIdleConnection( serverPool, minIdle ) )
+            {
+                // keep opening connections until there are enough idle ones
+            }
+        }
+        catch ( RuntimeException e )
+        {
+            log.debug( "Unable to open idle connection to %s: %s", serverPool.address(), e.getMessage() );
+        }
+    }
+}
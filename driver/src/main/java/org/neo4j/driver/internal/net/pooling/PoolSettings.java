@@ -19,6 +19,8 @@
 
 package org.neo4j.driver.internal.net.pooling;
 
+import java.util.concurrent.TimeUnit;
+
 public class PoolSettings
 {
     public static PoolSettings defaultSettings()
@@ -27,7 +29,13 @@ public class PoolSettings
     }
 
     public static final int DEFAULT_MAX_IDLE_CONNECTION_POOL_SIZE = 10;
-    public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = 200;
+    public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = TimeUnit.SECONDS.toMillis( 30 );
+    public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
+    public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = TimeUnit.SECONDS.toMillis( 60 );
+    public static final int DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE = 0;
+    public static final long NO_IDLE_CONNECTION_EVICTION = -1;
+    public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_EVICTION = NO_IDLE_CONNECTION_EVICTION;
+    public static final long DEFAULT_MAINTENANCE_INTERVAL = TimeUnit.SECONDS.toMillis( 1 );
 
     /**
      * Maximum number of idle connections per pool.
@@ -39,10 +47,57 @@ public class PoolSettings
      */
     private final long idleTimeBeforeConnectionTest;
 
+    /**
+     * Maximum number of connections per pool that can be handed out at the same time.
+     */
+    private final int maxConnectionPoolSize;
+
+    /**
+     * Maximum time, in milliseconds, to wait for a connection to become available when the pool is exhausted.
+     */
+    private final long connectionAcquisitionTimeout;
+
+    /**
+     * Number of idle connections per pool that the background maintenance keeps open and ready for use.
+     */
+    private final int minIdleConnectionPoolSize;
+
+    /**
+     * Connections that have been idle longer than this threshold are closed by the background maintenance,
+     * unless that would bring the pool below {@link #minIdleConnectionPoolSize}.
+     */
+    private final long idleTimeBeforeConnectionEviction;
+
+    /**
+     * How often, in milliseconds, the background maintenance runs. Zero or less disables it.
+     */
+    private final long maintenanceInterval;
+
     public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, DEFAULT_MAX_CONNECTION_POOL_SIZE,
+                DEFAULT_CONNECTION_ACQUISITION_TIMEOUT );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int maxConnectionPoolSize, long connectionAcquisitionTimeout )
+    {
+        this( maxIdleConnectionPoolSize, idleTimeBeforeConnectionTest, maxConnectionPoolSize,
+                connectionAcquisitionTimeout, DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE,
+                DEFAULT_IDLE_TIME_BEFORE_CONNECTION_EVICTION, DEFAULT_MAINTENANCE_INTERVAL );
+    }
+
+    public PoolSettings( int maxIdleConnectionPoolSize, long idleTimeBeforeConnectionTest,
+            int maxConnectionPoolSize, long connectionAcquisitionTimeout,
+            int minIdleConnectionPoolSize, long idleTimeBeforeConnectionEviction, long maintenanceInterval )
     {
         this.maxIdleConnectionPoolSize = maxIdleConnectionPoolSize;
         this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
+        this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+        this.minIdleConnectionPoolSize = minIdleConnectionPoolSize;
+        this.idleTimeBeforeConnectionEviction = idleTimeBeforeConnectionEviction;
+        this.maintenanceInterval = maintenanceInterval;
     }
 
     public int maxIdleConnectionPoolSize()
@@ -55,4 +110,33 @@ public class PoolSettings
         return idleTimeBeforeConnectionTest;
     }
 
+    public int maxConnectionPoolSize()
+    {
+        return maxConnectionPoolSize;
+    }
+
+    public long connectionAcquisitionTimeout()
+    {
+        return connectionAcquisitionTimeout;
+    }
+
+    public int minIdleConnectionPoolSize()
+    {
+        return minIdleConnectionPoolSize;
+    }
+
+    public long idleTimeBeforeConnectionEviction()
+    {
+        return idleTimeBeforeConnectionEviction;
+    }
+
+    public boolean idleConnectionEvictionEnabled()
+    {
+        return idleTimeBeforeConnectionEviction >= 0;
+    }
+
+    public long maintenanceInterval()
+    {
+        return maintenanceInterval;
+    }
 }
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.net.pooling;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.internal.spi.Collector;
@@ -52,11 +53,18 @@ public class PooledConnection implements Connection
     /** The real connection who will do all the real jobs */
     private final Connection delegate;
     private final Consumer<PooledConnection> release;
+    /** Set once the connection has been handed back, so that closing it again does not release it twice */
+    private final AtomicBoolean released = new AtomicBoolean( false );
 
     private boolean unrecoverableErrorsOccurred = false;
+    /** Messages have been queued since the last successful sync, so the server may still be busy with them */
+    private boolean pendingResponses = false;
+    /** A transaction has been started and not yet committed, rolled back or reset */
+    private boolean transactionOpen = false;
     private Runnable onError = null;
     private final Clock clock;
-    private long lastUsed;
+    private volatile long lastUsed;
+    private volatile long lastValidated;
 
     public PooledConnection( Connection delegate, Consumer<PooledConnection> release, Clock clock )
     {
@@ -64,6 +72,7 @@ public class PooledConnection implements Connection
         this.release = release;
         this.clock = clock;
         this.lastUsed = clock.millis();
+        this.lastValidated = lastUsed;
     }
 
     public void updateUsageTimestamp()
@@ -71,6 +80,22 @@ public class PooledConnection implements Connection
         lastUsed = clock.millis();
     }
 
+    /**
+     * Record that the connection has been handed out of the pool, so that the next {@link #close()} returns it.
+     */
+    public void markAcquired()
+    {
+        released.set( false );
+    }
+
+    /**
+     * Record that the connection has just been verified to be live, without counting it as used.
+     */
+    public void updateValidationTimestamp()
+    {
+        lastValidated = clock.millis();
+    }
+
     @Override
     public void init( String clientName, Map<String,Value> authToken )
     {
@@ -90,6 +115,8 @@ public class PooledConnection implements Connection
     {
         try
         {
+            pendingResponses = true;
+            trackTransaction( statement );
             delegate.run( statement, parameters, collector );
         }
         catch(RuntimeException e)
@@ -103,6 +130,7 @@ public class PooledConnection implements Connection
     {
         try
         {
+            pendingResponses = true;
             delegate.discardAll( collector );
         }
         catch ( RuntimeException e )
@@ -116,6 +144,7 @@ public class PooledConnection implements Connection
     {
         try
         {
+            pendingResponses = true;
             delegate.pullAll( collector );
         }
         catch ( RuntimeException e )
@@ -129,6 +158,8 @@ public class PooledConnection implements Connection
     {
         try
         {
+            pendingResponses = true;
+            transactionOpen = false;
             delegate.reset();
         }
         catch ( RuntimeException e )
@@ -142,6 +173,7 @@ public class PooledConnection implements Connection
     {
         try
         {
+            pendingResponses = true;
             delegate.ackFailure();
         }
         catch ( RuntimeException e )
@@ -156,6 +188,7 @@ public class PooledConnection implements Connection
         try
         {
             delegate.sync();
+            pendingResponses = false;
         }
         catch ( RuntimeException e )
         {
@@ -196,6 +229,10 @@ public class PooledConnection implements Connection
      */
     public void close()
     {
+        if ( !released.compareAndSet( false, true ) )
+        {
+            return;
+        }
         release.accept( this );
         // put the full logic of deciding whether to dispose the connection or to put it back to
         // the pool into the release object
@@ -212,11 +249,45 @@ public class PooledConnection implements Connection
         return unrecoverableErrorsOccurred;
     }
 
+    /**
+     * @return true if messages were sent or queued since the last successful {@link #sync()}, which means the
+     * connection may be streaming results or be in a failed state
+     */
+    public boolean hasPendingResponses()
+    {
+        return pendingResponses;
+    }
+
+    /**
+     * @return true if a transaction was started on this connection and has not been closed since
+     */
+    public boolean isTransactionOpen()
+    {
+        return transactionOpen;
+    }
+
+    private void trackTransaction( String statement )
+    {
+        switch ( statement )
+        {
+        case "BEGIN":
+            transactionOpen = true;
+            break;
+        case "COMMIT":
+        case "ROLLBACK":
+            transactionOpen = false;
+            break;
+        default:
+            break;
+        }
+    }
+
     @Override
     public void resetAsync()
     {
         try
         {
+            pendingResponses = true;
             delegate.resetAsync();
         }
         catch( RuntimeException e )
@@ -295,4 +366,9 @@ public class PooledConnection implements Connection
     {
         return clock.millis() - lastUsed;
     }
+
+    public long timeSinceValidation()
+    {
+        return clock.millis() - Math.max( lastUsed, lastValidated );
+    }
 }
@@ -52,6 +52,7 @@ class PooledConnectionReleaseConsumer implements Consumer<PooledConnection>
         }
         else if ( validConnection.apply( pooledConnection ) )
         {
+            pooledConnection.updateUsageTimestamp();
             boolean released = connections.offer( pooledConnection );
             if( !released )
             {
@@ -42,17 +42,74 @@ class PooledConnectionValidator implements Function<PooledConnection,Boolean>
     public Boolean apply( PooledConnection pooledConnection )
     {
         // once the pooledConn has marked to have unrecoverable errors, there is no way to remove the error
-        // and we should close the conn without bothering to reset the conn at all
+        // and we should close the conn without bothering to reset the conn at all.
+        // Liveness of idle connections is checked in the background, see IdleConnectionMaintenance
         return pool.hasAddress( pooledConnection.address() ) &&
                !pooledConnection.hasUnrecoverableErrors() &&
-               reset( pooledConnection ) &&
-               (pooledConnection.idleTime() <= poolSettings.idleTimeBeforeConnectionTest() ||
-                ping( pooledConnection ));
+               prepareForReuse( pooledConnection );
     }
 
     /**
-     * In case this session has an open result or transaction or something,
-     * make sure it's reset to a nice state before we reuse it.
+     * Make sure the next user of the connection finds it in a clean state, doing as little network work as possible.
+     * <ul>
+     * <li>A connection that has been fully synced outside of a transaction needs nothing.</li>
+     * <li>A fully synced connection that was left in a transaction gets a RESET queued, which is sent along with
+     * the first messages of the next user rather than in a round trip of its own.</li>
+     * <li>A connection with outstanding responses is reset and synced right away, so that results or failures of
+     * this user never reach the next one.</li>
+     * </ul>
+     *
+     * @param conn the PooledConnection
+     * @return true if the connection can be reused, otherwise false.
+     */
+    private boolean prepareForReuse( PooledConnection conn )
+    {
+        if ( conn.hasPendingResponses() )
+        {
+            return reset( conn );
+        }
+        if ( conn.isTransactionOpen() )
+        {
+            return resetLazily( conn );
+        }
+        return true;
+    }
+
+    private boolean resetLazily( PooledConnection conn )
+    {
+        try
+        {
+            conn.reset();
+            return true;
+        }
+        catch ( Throwable e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Check whether an idle connection that has not been verified for a while is still live.
+     *
+     * @param pooledConnection the idle PooledConnection
+     * @return true if the connection does not need testing or responded to a ping, otherwise false.
+     */
+    boolean isLive( PooledConnection pooledConnection )
+    {
+        if ( pooledConnection.timeSinceValidation() <= poolSettings.idleTimeBeforeConnectionTest() )
+        {
+            return true;
+        }
+        if ( ping( pooledConnection ) )
+        {
+            pooledConnection.updateValidationTimestamp();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * In case this session has an open result or a failure, make sure it's reset to a nice state before we reuse it.
      *
      * @param conn the PooledConnection
      * @return true if the connection is reset successfully without any error, otherwise false.
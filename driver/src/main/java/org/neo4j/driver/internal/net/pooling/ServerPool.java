@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The connections to a single server. Idle connections are kept in a bounded queue, while the number of connections
+ * that may be handed out at the same time is limited by a fair semaphore, so that callers waiting for a connection
+ * are served in the order they arrived.
+ */
+class ServerPool
+{
+    private final BoltServerAddress address;
+    private final BlockingQueue<PooledConnection> idleConnections;
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final long acquisitionTimeout;
+
+    ServerPool( BoltServerAddress address, PoolSettings poolSettings )
+    {
+        this.address = address;
+        this.idleConnections = new LinkedBlockingQueue<>( poolSettings.maxIdleConnectionPoolSize() );
+        this.maxConnections = poolSettings.maxConnectionPoolSize();
+        this.permits = new Semaphore( maxConnections, true );
+        this.acquisitionTimeout = poolSettings.connectionAcquisitionTimeout();
+    }
+
+    BlockingQueue<PooledConnection> idleConnections()
+    {
+        return idleConnections;
+    }
+
+    /**
+     * Block until a connection may be handed out, or fail if none becomes available within the acquisition timeout.
+     */
+    void acquirePermit()
+    {
+        try
+        {
+            if ( !permits.tryAcquire( acquisitionTimeout, MILLISECONDS ) )
+            {
+                throw new ClientException( format(
+                        "Unable to acquire connection to %s from the pool within the configured maximum time of " +
+                        "%sms. All %s connections are in use.", address, acquisitionTimeout, maxConnections ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new ClientException( format( "Interrupted while waiting for a connection to %s.", address ), e );
+        }
+    }
+
+    /**
+     * Take a permit only if one is free right away and nobody is queued for it.
+     */
+    boolean tryAcquirePermit()
+    {
+        try
+        {
+            // the timed variant, unlike tryAcquire(), does not barge ahead of waiting callers
+            return permits.tryAcquire( 0, MILLISECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    void releasePermit()
+    {
+        permits.release();
+    }
+
+    /**
+     * @return the number of connections currently handed out from this pool
+     */
+    int activeConnections()
+    {
+        return maxConnections - permits.availablePermits();
+    }
+
+    BoltServerAddress address()
+    {
+        return address;
+    }
+}
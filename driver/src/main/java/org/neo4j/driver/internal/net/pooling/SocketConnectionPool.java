@@ -18,14 +18,24 @@
  */
 package org.neo4j.driver.internal.net.pooling;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.net.ByteBufferPool;
 import org.neo4j.driver.internal.net.ConcurrencyGuardingConnection;
 import org.neo4j.driver.internal.net.SocketConnection;
 import org.neo4j.driver.internal.security.InternalAuthToken;
@@ -33,12 +43,16 @@ import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.Consumer;
 import org.neo4j.driver.v1.AuthToken;
 import org.neo4j.driver.v1.AuthTokens;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.neo4j.driver.internal.util.DaemonThreadFactory.daemon;
+
 /**
  * The pool is designed to buffer certain amount of free sessions into session pool. When closing a session, we first
  * try to return the session into the session pool, however if we failed to return it back, either because the pool
@@ -50,16 +64,34 @@ import org.neo4j.driver.v1.exceptions.ClientException;
  *
  * The driver is thread safe. Each thread could try to get a session from the pool and then return it to the pool
  * at the same time.
+ *
+ * The number of connections handed out per server is bounded by {@link PoolSettings#maxConnectionPoolSize()}. Once
+ * that limit is reached, callers block, in arrival order, until a connection is returned to the pool or until
+ * {@link PoolSettings#connectionAcquisitionTimeout()} expires.
+ *
+ * Idle connections are tested, evicted and replenished by a background {@link IdleConnectionMaintenance} task, rather
+ * than on the threads that acquire and release them.
  */
 public class SocketConnectionPool implements ConnectionPool
 {
+    static final String LOG_NAME = "pool";
+
+    /** Max number of connections opened at the same time when warming up the pool */
+    private static final int MAX_WARM_UP_THREADS = 16;
+
+    /** Time in milliseconds a warm-up thread waits for more work before it terminates */
+    private static final long WARM_UP_THREAD_KEEP_ALIVE = 10_000;
+
     /**
      * Pools, organized by server address.
      */
-    private final ConcurrentHashMap<BoltServerAddress,BlockingQueue<PooledConnection>> pools = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<BoltServerAddress,ServerPool> pools = new ConcurrentHashMap<>();
 
     private final Clock clock = Clock.SYSTEM;
 
+    /** Network buffers shared by all connections of this pool */
+    private final ByteBufferPool bufferPool = new ByteBufferPool();
+
     private final ConnectionSettings connectionSettings;
     private final SecurityPlan securityPlan;
     private final PoolSettings poolSettings;
@@ -68,6 +100,12 @@ public class SocketConnectionPool implements ConnectionPool
     /** Shutdown flag */
     private final AtomicBoolean stopped = new AtomicBoolean( false );
 
+    /** Runs {@link IdleConnectionMaintenance}, null if maintenance is disabled */
+    private final ScheduledExecutorService maintenance;
+
+    /** Opens the connections of all warm-ups, its threads only live while there is work to do */
+    private final ThreadPoolExecutor warmUpExecutor;
+
     public SocketConnectionPool( ConnectionSettings connectionSettings, SecurityPlan securityPlan,
                                  PoolSettings poolSettings, Logging logging )
     {
@@ -75,11 +113,32 @@ public class SocketConnectionPool implements ConnectionPool
         this.securityPlan = securityPlan;
         this.poolSettings = poolSettings;
         this.logging = logging;
+        this.maintenance = startMaintenance( poolSettings, logging );
+        this.warmUpExecutor = new ThreadPoolExecutor( MAX_WARM_UP_THREADS, MAX_WARM_UP_THREADS,
+                WARM_UP_THREAD_KEEP_ALIVE, MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+                daemon( "neo4j-pool-warm-up-" ) );
+        this.warmUpExecutor.allowCoreThreadTimeOut( true );
     }
 
-    private Connection connect( BoltServerAddress address ) throws ClientException
+    private ScheduledExecutorService startMaintenance( PoolSettings poolSettings, Logging logging )
     {
-        Connection conn = new SocketConnection( address, securityPlan, logging );
+        long interval = poolSettings.maintenanceInterval();
+        if ( interval <= 0 )
+        {
+            return null;
+        }
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor( daemon( "neo4j-pool-maintenance-" ) );
+        executor.scheduleWithFixedDelay(
+                new IdleConnectionMaintenance( this, poolSettings, stopped, logging.getLog( LOG_NAME ) ),
+                interval, interval, MILLISECONDS );
+        return executor;
+    }
+
+    // Package-private for testing
+    Connection connect( BoltServerAddress address ) throws ClientException
+    {
+        Connection conn = new SocketConnection( address, securityPlan, connectionSettings, bufferPool, logging );
 
         // Because SocketConnection is not thread safe, wrap it in this guard
         // to ensure concurrent access leads causes application errors
@@ -108,23 +167,167 @@ public class SocketConnectionPool implements ConnectionPool
         {
             throw new IllegalStateException( "Pool has been closed, cannot acquire new values." );
         }
-        BlockingQueue<PooledConnection> connections = pool( address );
-        PooledConnection conn = connections.poll();
-        if ( conn == null )
+        ServerPool serverPool = pool( address );
+        serverPool.acquirePermit();
+        try
         {
-            conn = new PooledConnection( connect( address ), new
-                    PooledConnectionReleaseConsumer( connections, stopped, new PooledConnectionValidator( this, poolSettings ) ), clock );
+            if ( stopped.get() )
+            {
+                // the pool got closed while we were waiting for a permit
+                throw new IllegalStateException( "Pool has been closed, cannot acquire new values." );
+            }
+            PooledConnection conn = serverPool.idleConnections().poll();
+            if ( conn == null )
+            {
+                conn = newConnection( serverPool );
+            }
+            conn.markAcquired();
+            conn.updateUsageTimestamp();
+            return conn;
+        }
+        catch ( RuntimeException e )
+        {
+            serverPool.releasePermit();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<Void> warmUp( Collection<BoltServerAddress> addresses, int connectionsPerServer )
+    {
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        final int target = Math.min( connectionsPerServer, poolSettings.maxIdleConnectionPoolSize() );
+        for ( BoltServerAddress address : addresses )
+        {
+            final ServerPool serverPool = pool( address );
+            for ( int i = 0; i < target; i++ )
+            {
+                tasks.add( new Callable<Void>()
+                {
+                    @Override
+                    public Void call() throws Exception
+                    {
+                        openIdleConnection( serverPool, target );
+                        return null;
+                    }
+                } );
+            }
+        }
+
+        List<Future<Void>> results = new ArrayList<>( tasks.size() );
+        for ( Callable<Void> task : tasks )
+        {
+            try
+            {
+                results.add( warmUpExecutor.submit( task ) );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                // the pool has been closed meanwhile, there is nothing left to warm up
+                break;
+            }
+        }
+        return new CompositeFuture( results );
+    }
+
+    PooledConnection newConnection( ServerPool serverPool )
+    {
+        return new PooledConnection( connect( serverPool.address() ), releaseConsumer( serverPool ), clock );
+    }
+
+    /**
+     * Open a new connection to the given server and add it to its idle connections, unless the server already has
+     * the given number of idle connections or opening one would exceed {@link PoolSettings#maxConnectionPoolSize()}.
+     *
+     * @return true if a connection was added, false otherwise
+     */
+    boolean openIdleConnection( ServerPool serverPool, int targetIdleConnections )
+    {
+        BlockingQueue<PooledConnection> connections = serverPool.idleConnections();
+        if ( stopped.get() || connections.size() >= targetIdleConnections || !serverPool.tryAcquirePermit() )
+        {
+            return false;
+        }
+        try
+        {
+            // the permit we hold is counted as active, leave room for the connection we are about to open
+            if ( serverPool.activeConnections() + connections.size() > poolSettings.maxConnectionPoolSize() )
+            {
+                return false;
+            }
+            park( newConnection( serverPool ), serverPool );
+            return true;
+        }
+        finally
+        {
+            serverPool.releasePermit();
         }
-        conn.updateUsageTimestamp();
-        return conn;
     }
 
-    private BlockingQueue<PooledConnection> pool( BoltServerAddress address )
+    /**
+     * Put a connection that is not in use among the idle connections of its server, or dispose of it if there is no
+     * room for it or the pool has been closed.
+     */
+    void park( PooledConnection conn, ServerPool serverPool )
     {
-        BlockingQueue<PooledConnection> pool = pools.get( address );
+        BlockingQueue<PooledConnection> connections = serverPool.idleConnections();
+        if ( !connections.offer( conn ) )
+        {
+            dispose( conn );
+        }
+        else if ( stopped.get() )
+        {
+            // the pool got closed concurrently and might not have observed this connection,
+            // see PooledConnectionReleaseConsumer
+            PooledConnection other = connections.poll();
+            if ( other != null )
+            {
+                dispose( other );
+            }
+        }
+    }
+
+    void dispose( PooledConnection conn )
+    {
+        try
+        {
+            conn.dispose();
+        }
+        catch ( RuntimeException e )
+        {
+            // best effort, the connection is no longer of any use to us
+        }
+    }
+
+    private Consumer<PooledConnection> releaseConsumer( final ServerPool serverPool )
+    {
+        final Consumer<PooledConnection> release = new PooledConnectionReleaseConsumer(
+                serverPool.idleConnections(), stopped, new PooledConnectionValidator( this, poolSettings ) );
+        return new Consumer<PooledConnection>()
+        {
+            @Override
+            public void accept( PooledConnection connection )
+            {
+                try
+                {
+                    release.accept( connection );
+                }
+                finally
+                {
+                    // only hand the permit to the next waiter once the connection is back in the idle queue,
+                    // so that the waiter reuses it rather than opening a new one
+                    serverPool.releasePermit();
+                }
+            }
+        };
+    }
+
+    private ServerPool pool( BoltServerAddress address )
+    {
+        ServerPool pool = pools.get( address );
         if ( pool == null )
         {
-            pool = new LinkedBlockingQueue<>(poolSettings.maxIdleConnectionPoolSize());
+            pool = new ServerPool( address, poolSettings );
 
             if ( pools.putIfAbsent( address, pool ) != null )
             {
@@ -138,11 +341,12 @@ public class SocketConnectionPool implements ConnectionPool
     @Override
     public void purge( BoltServerAddress address )
     {
-        BlockingQueue<PooledConnection> connections = pools.remove( address );
-        if ( connections == null )
+        ServerPool pool = pools.remove( address );
+        if ( pool == null )
         {
             return;
         }
+        BlockingQueue<PooledConnection> connections = pool.idleConnections();
         while (!connections.isEmpty())
         {
             PooledConnection connection = connections.poll();
@@ -168,11 +372,18 @@ public class SocketConnectionPool implements ConnectionPool
             return;
         }
 
-        for ( BlockingQueue<PooledConnection> pool : pools.values() )
+        if ( maintenance != null )
+        {
+            maintenance.shutdownNow();
+        }
+        warmUpExecutor.shutdownNow();
+
+        for ( ServerPool pool : pools.values() )
         {
-            while ( !pool.isEmpty() )
+            BlockingQueue<PooledConnection> connections = pool.idleConnections();
+            while ( !connections.isEmpty() )
             {
-                PooledConnection conn = pool.poll();
+                PooledConnection conn = connections.poll();
                 if ( conn != null )
                 {
                     //close the underlying connection without adding it back to the queue
@@ -184,4 +395,15 @@ public class SocketConnectionPool implements ConnectionPool
         pools.clear();
     }
 
+    Collection<ServerPool> serverPools()
+    {
+        return pools.values();
+    }
+
+    //For testing
+    int activeConnections( BoltServerAddress address )
+    {
+        ServerPool pool = pools.get( address );
+        return pool == null ? 0 : pool.activeConnections();
+    }
 }
@@ -151,7 +151,10 @@ public class PackStream
 
     public static class Packer
     {
+        private static final int ENCODE_BUFFER_SIZE = 1024;
+
         private PackOutput out;
+        private final byte[] encodeBuffer = new byte[ENCODE_BUFFER_SIZE];
 
         public Packer( PackOutput out )
         {
@@ -237,10 +240,99 @@ public class PackStream
             if ( value == null ) { packNull(); }
             else
             {
-                byte[] utf8 = value.getBytes( UTF_8 );
-                packStringHeader( utf8.length );
-                packRaw( utf8 );
+                // the header needs the encoded size, which is computed up front rather than by encoding the string
+                // into an array, so that the string can then be encoded straight to the output
+                packStringHeader( utf8Length( value ) );
+                packUtf8( value );
+            }
+        }
+
+        /**
+         * The number of bytes in the UTF-8 encoding of a string, where unpaired surrogates, like in
+         * {@link String#getBytes(Charset)}, are replaced by a single '?'.
+         */
+        static int utf8Length( String value )
+        {
+            int length = value.length();
+            int size = length;
+            for ( int i = 0; i < length; i++ )
+            {
+                char c = value.charAt( i );
+                if ( c < 0x80 )
+                {
+                    continue;
+                }
+
+                if ( c < 0x800 )
+                {
+                    size += 1;
+                }
+                else if ( isSurrogatePair( value, i ) )
+                {
+                    size += 2; // four bytes for two chars
+                    i++;
+                }
+                else if ( !Character.isSurrogate( c ) )
+                {
+                    size += 2;
+                }
             }
+            return size;
+        }
+
+        private void packUtf8( String value ) throws IOException
+        {
+            byte[] buffer = encodeBuffer;
+            int length = value.length();
+            int position = 0;
+            for ( int i = 0; i < length; i++ )
+            {
+                if ( position > buffer.length - 4 )
+                {
+                    out.writeBytes( buffer, 0, position );
+                    position = 0;
+                }
+
+                char c = value.charAt( i );
+                if ( c < 0x80 )
+                {
+                    buffer[position++] = (byte) c;
+                }
+                else if ( c < 0x800 )
+                {
+                    buffer[position++] = (byte) (0xC0 | c >> 6);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                }
+                else if ( isSurrogatePair( value, i ) )
+                {
+                    int codePoint = Character.toCodePoint( c, value.charAt( ++i ) );
+                    buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                }
+                else if ( Character.isSurrogate( c ) )
+                {
+                    buffer[position++] = '?';
+                }
+                else
+                {
+                    buffer[position++] = (byte) (0xE0 | c >> 12);
+                    buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    buffer[position++] = (byte) (0x80 | c & 0x3F);
+                }
+            }
+
+            if ( position > 0 )
+            {
+                out.writeBytes( buffer, 0, position );
+            }
+        }
+
+        private static boolean isSurrogatePair( String value, int index )
+        {
+            return Character.isHighSurrogate( value.charAt( index ) ) && index + 1 < value.length() &&
+                   Character.isLowSurrogate( value.charAt( index + 1 ) );
         }
 
         public void packString( byte[] utf8 ) throws IOException
@@ -424,7 +516,12 @@ public class PackStream
 
     public static class Unpacker
     {
+        private static final int STRING_BUFFER_SIZE = 8192;
+        private static final int MIN_STRING_BUFFER_SIZE = 64;
+
         private PackInput in;
+        private final TokenCache tokens = new TokenCache();
+        private byte[] stringBuffer;
 
         public Unpacker( PackInput in )
         {
@@ -520,7 +617,28 @@ public class PackStream
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return unpackUtf8( unpackStringSize( markerByte ) );
+        }
+
+        /**
+         * Unpacks a string that is likely to occur many times in the stream, such as a map key, a label or a
+         * relationship type. Short strings are looked up in a cache of recently unpacked ones, so that a repeated
+         * string is returned as the same instance without being decoded again.
+         */
+        public String unpackToken() throws IOException
+        {
+            final byte markerByte = in.readByte();
+            if( markerByte == TINY_STRING ) // Note no mask, so we compare to 0x80.
+            {
+                return EMPTY_STRING;
+            }
+
+            int size = unpackStringSize( markerByte );
+            if ( size <= TokenCache.MAX_TOKEN_LENGTH )
+            {
+                return tokens.read( in, size );
+            }
+            return unpackUtf8( size );
         }
 
         public byte[] unpackBytes() throws IOException
@@ -564,22 +682,22 @@ public class PackStream
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException
+        private int unpackStringSize( byte markerByte ) throws IOException
         {
             final byte markerHighNibble = (byte) (markerByte & 0xF0);
             final byte markerLowNibble = (byte) (markerByte & 0x0F);
 
-            if ( markerHighNibble == TINY_STRING ) { return unpackBytes( markerLowNibble ); }
+            if ( markerHighNibble == TINY_STRING ) { return markerLowNibble; }
             switch(markerByte)
             {
-                case STRING_8: return unpackBytes( unpackUINT8() );
-                case STRING_16: return unpackBytes( unpackUINT16() );
+                case STRING_8: return unpackUINT8();
+                case STRING_16: return unpackUINT16();
                 case STRING_32:
                 {
                     long size = unpackUINT32();
                     if ( size <= Integer.MAX_VALUE )
                     {
-                        return unpackBytes( (int) size );
+                        return (int) size;
                     }
                     else
                     {
@@ -590,6 +708,31 @@ public class PackStream
             }
         }
 
+        /**
+         * Strings that fit are read into a buffer kept for the purpose instead of an array of their own.
+         */
+        private String unpackUtf8( int size ) throws IOException
+        {
+            if ( size > STRING_BUFFER_SIZE )
+            {
+                return new String( unpackBytes( size ), UTF_8 );
+            }
+
+            byte[] buffer = stringBuffer( size );
+            in.readBytes( buffer, 0, size );
+            return new String( buffer, 0, size, UTF_8 );
+        }
+
+        private byte[] stringBuffer( int size )
+        {
+            if ( stringBuffer == null || stringBuffer.length < size )
+            {
+                // grown to the next power of two, so connections that only receive short strings keep a small one
+                stringBuffer = new byte[Math.max( MIN_STRING_BUFFER_SIZE, Integer.highestOneBit( size - 1 ) << 1 )];
+            }
+            return stringBuffer;
+        }
+
         public boolean unpackBoolean() throws IOException
         {
             final byte markerByte = in.readByte();
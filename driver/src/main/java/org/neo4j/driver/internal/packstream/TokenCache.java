@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decodes short strings that keep recurring in a stream, like map keys, labels and relationship types, to one and
+ * the same {@link String} instance per distinct value.
+ *
+ * The cache is a fixed size table, indexed by a hash of the UTF-8 bytes of the strings, where a string that hashes
+ * to a taken slot replaces the string in it. Looking up a cached string reads its bytes into a scratch array and
+ * allocates nothing. Like the unpacker it belongs to, a cache is not safe for use by multiple threads.
+ *
+ * Every pooled connection has its own cache, so the table is kept small, on the order of the number of distinct
+ * keys, labels and types a typical application uses, and only allocated once the connection receives a token.
+ */
+class TokenCache
+{
+    /** Strings longer than this, in bytes, are decoded without the cache */
+    static final int MAX_TOKEN_LENGTH = 64;
+    private static final int SLOTS = 64; // power of two
+
+    private byte[][] bytes;
+    private String[] strings;
+    private byte[] scratch;
+
+    String read( PackInput in, int size ) throws IOException
+    {
+        if ( scratch == null )
+        {
+            bytes = new byte[SLOTS][];
+            strings = new String[SLOTS];
+            scratch = new byte[MAX_TOKEN_LENGTH];
+        }
+        in.readBytes( scratch, 0, size );
+
+        int hash = 1;
+        for ( int i = 0; i < size; i++ )
+        {
+            hash = 31 * hash + scratch[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+
+        byte[] cached = bytes[slot];
+        if ( cached != null && cached.length == size && equal( cached, scratch, size ) )
+        {
+            return strings[slot];
+        }
+
+        String string = new String( scratch, 0, size, UTF_8 );
+        bytes[slot] = Arrays.copyOf( scratch, size );
+        strings[slot] = string;
+        return string;
+    }
+
+    private static boolean equal( byte[] cached, byte[] scratch, int size )
+    {
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( cached[i] != scratch[i] )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,345 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The certificate fingerprints of known servers, by host:port, as stored in a known_hosts file.
+ *
+ * The file is read once, when the store is created, and all lookups are served from memory. Servers that become
+ * known are added in memory right away and written to the file by {@link #persist()}, which replaces the file
+ * with a complete new copy, so that readers never see a partially written file. Concurrent callers do not wait
+ * for each other: while one of them writes the file, the others return immediately, and the writer writes again
+ * until all additions are on disk.
+ *
+ * Other drivers, in this or other processes, may share the file. The new copy is therefore made from the file as
+ * it is on disk at the time of writing, with the servers only known to this store appended to it. Writers hold an
+ * exclusive lock on a {@code .lock} file next to the known_hosts file meanwhile, so that none of them overwrites
+ * the additions of another. If another writer added the same server with another fingerprint first, its
+ * fingerprint is kept and replaces the one known to this store. The lock file is left in place, since removing it
+ * would let writers that opened it before and after the removal lock different files.
+ */
+class KnownHosts
+{
+    private static final String[] DEFAULT_HEADER = {
+            "# This file contains trusted certificates for Neo4j servers, it's created by Neo4j drivers.",
+            "# You can configure the location of this file in `org.neo4j.driver.Config`"};
+
+    private final File file;
+    private final ConcurrentMap<String,String> fingerprints = new ConcurrentHashMap<>();
+    /** Server ids in the order they became known, which is the order they are written in */
+    private final Queue<String> serverIds = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean unsaved = new AtomicBoolean( false );
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * File locks are held on behalf of the whole JVM, so writers of all stores in this JVM take turns before
+     * locking the file, otherwise locking fails with an {@link java.nio.channels.OverlappingFileLockException}.
+     */
+    private static final Object FILE_LOCK_MONITOR = new Object();
+
+    KnownHosts( File file ) throws IOException
+    {
+        this.file = file;
+        load();
+    }
+
+    File file()
+    {
+        return file;
+    }
+
+    /**
+     * @return the fingerprint known for the server, or null if the server is not known
+     */
+    String fingerprint( String serverId )
+    {
+        return fingerprints.get( serverId );
+    }
+
+    /**
+     * Make the fingerprint known for the server, unless another one is known already.
+     *
+     * @return the fingerprint known before, or null if the given fingerprint has been added
+     */
+    String trustOnFirstUse( String serverId, String fingerprint )
+    {
+        String known = fingerprints.putIfAbsent( serverId, fingerprint );
+        if ( known == null )
+        {
+            serverIds.add( serverId );
+            unsaved.set( true );
+        }
+        return known;
+    }
+
+    /**
+     * Write all known servers to the file, unless another thread is doing so already.
+     */
+    void persist() throws IOException
+    {
+        // Whoever holds the lock checks again after releasing it, so additions made meanwhile are never missed
+        while ( unsaved.get() && writeLock.tryLock() )
+        {
+            try
+            {
+                if ( unsaved.compareAndSet( true, false ) )
+                {
+                    try
+                    {
+                        write();
+                    }
+                    catch ( IOException e )
+                    {
+                        unsaved.set( true );
+                        throw e;
+                    }
+                }
+            }
+            finally
+            {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    private void load() throws IOException
+    {
+        if ( !file.exists() )
+        {
+            return;
+        }
+
+        assertKnownHostFileReadable();
+
+        for ( String line : readLines() )
+        {
+            String serverId = serverId( line );
+            if ( serverId == null )
+            {
+                continue;
+            }
+            if ( fingerprints.putIfAbsent( serverId, fingerprintOf( line ) ) == null )
+            {
+                serverIds.add( serverId );
+            }
+        }
+    }
+
+    private void write() throws IOException
+    {
+        createKnownCertFileIfNotExists();
+        assertKnownHostFileWritable();
+
+        File directory = file.getAbsoluteFile().getParentFile();
+        Path lockFile = new File( directory, file.getName() + ".lock" ).toPath();
+        synchronized ( FILE_LOCK_MONITOR )
+        {
+            try ( FileChannel lockChannel = FileChannel.open( lockFile, CREATE, WRITE ) )
+            {
+                FileLock lock = lockChannel.lock();
+                try
+                {
+                    merge( directory );
+                }
+                finally
+                {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the file with the servers on disk followed by the servers only known to this store. Where the file
+     * has another fingerprint for a server than this store, the file has the final say and this store adopts it.
+     */
+    private void merge( File directory ) throws IOException
+    {
+        List<String> lines = readLines();
+        Map<String,String> written = new HashMap<>();
+        for ( String line : lines )
+        {
+            String serverId = serverId( line );
+            if ( serverId != null && !written.containsKey( serverId ) )
+            {
+                written.put( serverId, fingerprintOf( line ) );
+            }
+        }
+
+        File newFile = File.createTempFile( file.getName(), ".tmp", directory );
+        try
+        {
+            try ( BufferedWriter writer = new BufferedWriter( new FileWriter( newFile ) ) )
+            {
+                for ( String line : lines.isEmpty() ? Arrays.asList( DEFAULT_HEADER ) : lines )
+                {
+                    writer.write( line );
+                    writer.newLine();
+                }
+                for ( String serverId : serverIds )
+                {
+                    String onDisk = written.get( serverId );
+                    if ( onDisk == null )
+                    {
+                        String fingerprint = fingerprints.get( serverId );
+                        writer.write( serverId + " " + fingerprint );
+                        writer.newLine();
+                        written.put( serverId, fingerprint );
+                    }
+                    else if ( !onDisk.equals( fingerprints.get( serverId ) ) )
+                    {
+                        fingerprints.put( serverId, onDisk );
+                    }
+                }
+            }
+            copyPermissions( file.toPath(), newFile.toPath() );
+            Files.move( newFile.toPath(), file.toPath(), REPLACE_EXISTING, ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( newFile.toPath() );
+        }
+    }
+
+    private List<String> readLines() throws IOException
+    {
+        List<String> lines = new ArrayList<>();
+        try ( BufferedReader reader = new BufferedReader( new FileReader( file ) ) )
+        {
+            String line;
+            while ( (line = reader.readLine()) != null )
+            {
+                lines.add( line );
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * @return the server a line of the file is about, or null for comments and blank lines
+     */
+    private static String serverId( String line )
+    {
+        String trimmed = line.trim();
+        if ( trimmed.startsWith( "#" ) || trimmed.isEmpty() )
+        {
+            return null;
+        }
+        return trimmed.split( " " )[0].trim();
+    }
+
+    private static String fingerprintOf( String line )
+    {
+        return line.trim().split( " " )[1].trim();
+    }
+
+    private static void copyPermissions( Path from, Path to ) throws IOException
+    {
+        // temp files are only accessible to their owner, the known_hosts file keeps whatever the user gave it
+        if ( Files.getFileStore( from ).supportsFileAttributeView( PosixFileAttributeView.class ) )
+        {
+            Files.setPosixFilePermissions( to, Files.getPosixFilePermissions( from ) );
+        }
+    }
+
+    private void assertKnownHostFileReadable() throws IOException
+    {
+        if( !file.canRead() )
+        {
+            throw new IOException( format(
+                    "Failed to load certificates from file %s as you have no read permissions to it.\n" +
+                    "Try configuring the Neo4j driver to use a file system location you do have read permissions to.",
+                    file.getAbsolutePath()
+            ) );
+        }
+    }
+
+    private void assertKnownHostFileWritable() throws IOException
+    {
+        if( !file.canWrite() )
+        {
+            throw new IOException( format(
+                    "Failed to write certificates to file %s as you have no write permissions to it.\n" +
+                    "Try configuring the Neo4j driver to use a file system location you do have write permissions to.",
+                    file.getAbsolutePath()
+            ) );
+        }
+    }
+
+    private void createKnownCertFileIfNotExists() throws IOException
+    {
+        if ( !file.exists() )
+        {
+            File parentDir = file.getParentFile();
+            try
+            {
+                if ( parentDir != null && !parentDir.exists() )
+                {
+                    if ( !parentDir.mkdirs() )
+                    {
+                        throw new IOException( "Failed to create directories for the known hosts file in " + file.getAbsolutePath() +
+                                               ". This is usually because you do not have write permissions to the directory. " +
+                                               "Try configuring the Neo4j driver to use a file system location you do have write permissions to." );
+                    }
+                }
+                if ( !file.createNewFile() )
+                {
+                    throw new IOException( "Failed to create a known hosts file at " + file.getAbsolutePath() +
+                                           ". This is usually because you do not have write permissions to the directory. " +
+                                           "Try configuring the Neo4j driver to use a file system location you do have write permissions to." );
+                }
+            }
+            catch( SecurityException e )
+            {
+                throw new IOException( "Failed to create known host file and/or parent directories at " + file.getAbsolutePath() +
+                                       ". This is usually because you do not have write permission to the directory. " +
+                                       "Try configuring the Neo4j driver to use a file location you have write permissions to." );
+            }
+        }
+    }
+}
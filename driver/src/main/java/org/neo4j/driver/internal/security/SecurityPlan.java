@@ -24,25 +24,42 @@ import org.neo4j.driver.v1.*;
 
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
-import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.neo4j.driver.internal.util.CertificateTool.loadX509Cert;
 
 /**
  * A SecurityPlan consists of encryption and trust details.
+ *
+ * All connections of a driver share the plan, and with it a single {@link SSLContext}. The context caches the TLS
+ * sessions it negotiates per server address, so that connections opened to a server after the first one resume
+ * the session with an abbreviated handshake, rather than repeating the full, asymmetric, key exchange.
  */
 public class SecurityPlan
 {
+    /** Max number of TLS sessions the SSLContexts created by the driver keep for resumption */
+    public static final int DEFAULT_SESSION_CACHE_SIZE = 1000;
+
     public static SecurityPlan forSignedCertificates( File certFile )
             throws GeneralSecurityException, IOException
+    {
+        return forSignedCertificates( certFile, null );
+    }
+
+    public static SecurityPlan forSignedCertificates( File certFile, String sslProvider )
+            throws GeneralSecurityException, IOException
     {
         // A certificate file is specified so we will load the certificates in the file
         // Init a in memory TrustedKeyStore
@@ -56,10 +73,10 @@ public class SecurityPlan
         TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance( "SunX509" );
         trustManagerFactory.init( trustedKeyStore );
 
-        SSLContext sslContext = SSLContext.getInstance( "TLS" );
+        SSLContext sslContext = newSSLContext( sslProvider );
         sslContext.init( new KeyManager[0], trustManagerFactory.getTrustManagers(), null );
 
-        return new SecurityPlan( true, sslContext);
+        return new SecurityPlan( true, withSessionCache( sslContext ) );
     }
 
     public static SecurityPlan forSystemCertificates() throws NoSuchAlgorithmException, KeyStoreException
@@ -69,12 +86,18 @@ public class SecurityPlan
 
 
     public static SecurityPlan forTrustOnFirstUse( File knownHosts, BoltServerAddress address, Logger logger )
-            throws IOException, KeyManagementException, NoSuchAlgorithmException
+            throws IOException, GeneralSecurityException
     {
-        SSLContext sslContext = SSLContext.getInstance( "TLS" );
+        return forTrustOnFirstUse( knownHosts, address, logger, null );
+    }
+
+    public static SecurityPlan forTrustOnFirstUse( File knownHosts, BoltServerAddress address, Logger logger,
+            String sslProvider ) throws IOException, GeneralSecurityException
+    {
+        SSLContext sslContext = newSSLContext( sslProvider );
         sslContext.init( new KeyManager[0], new TrustManager[]{new TrustOnFirstUseTrustManager( address, knownHosts, logger )}, null );
 
-        return new SecurityPlan( true, sslContext);
+        return new SecurityPlan( true, withSessionCache( sslContext ) );
     }
 
     public static SecurityPlan insecure()
@@ -82,8 +105,28 @@ public class SecurityPlan
         return new SecurityPlan( false, null );
     }
 
+    /**
+     * @param sslProvider name of the JCA provider to take TLS from, or null for the highest priority one
+     */
+    private static SSLContext newSSLContext( String sslProvider ) throws GeneralSecurityException
+    {
+        return sslProvider == null ? SSLContext.getInstance( "TLS" )
+                                                   : SSLContext.getInstance( "TLS", sslProvider );
+    }
+
+    private static SSLContext withSessionCache( SSLContext sslContext )
+    {
+        // the JVM wide default context, used for system certificates, is left as configured by the application
+        sslContext.getClientSessionContext().setSessionCacheSize( DEFAULT_SESSION_CACHE_SIZE );
+        return sslContext;
+    }
+
     private final boolean requiresEncryption;
     private final SSLContext sslContext;
+    private final AtomicLong fullHandshakes = new AtomicLong();
+    private final AtomicLong resumedHandshakes = new AtomicLong();
+    /** The TLS session established by the latest handshake with each server */
+    private final ConcurrentMap<BoltServerAddress,SSLSession> latestSessions = new ConcurrentHashMap<>();
 
     private SecurityPlan( boolean requiresEncryption, SSLContext sslContext)
     {
@@ -99,4 +142,47 @@ public class SecurityPlan
 
     public SSLContext sslContext() {return sslContext;}
 
+    /**
+     * Count a completed handshake with the given server. The context caches one session per server, so a handshake
+     * resumed a session if it ended up with the session of the previous handshake with the server. With TLS 1.2
+     * the resumed session keeps its id. With TLS 1.3 JSSE hands out a new id for every handshake, but the resumed
+     * session keeps the creation time of the one it resumes. Handshakes with the same server that run concurrently
+     * may be counted as full ones, and a full handshake that creates its session within the same millisecond as
+     * the previous one counts as resumed.
+     *
+     * @return true if the handshake resumed the session of the previous handshake with the server
+     */
+    boolean handshakeCompleted( BoltServerAddress address, SSLSession session )
+    {
+        SSLSession previous = latestSessions.put( address, session );
+        boolean resumedSession = previous != null && (
+                session.getId().length > 0 && Arrays.equals( session.getId(), previous.getId() ) ||
+                session.getCreationTime() == previous.getCreationTime() );
+        if ( resumedSession )
+        {
+            resumedHandshakes.incrementAndGet();
+        }
+        else
+        {
+            fullHandshakes.incrementAndGet();
+        }
+        return resumedSession;
+    }
+
+    /**
+     * @return the number of TLS handshakes of connections using this plan that negotiated a new session
+     */
+    public long fullHandshakes()
+    {
+        return fullHandshakes.get();
+    }
+
+    /**
+     * @return the number of TLS handshakes of connections using this plan that resumed a cached session
+     */
+    public long resumedHandshakes()
+    {
+        return resumedHandshakes.get();
+    }
+
 }
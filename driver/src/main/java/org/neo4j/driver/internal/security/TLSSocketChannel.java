@@ -31,8 +31,6 @@ import javax.net.ssl.SSLEngineResult.Status;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.v1.Logger;
-import org.neo4j.driver.internal.util.BytePrinter;
-import org.neo4j.driver.internal.util.BytePrinter;
 import org.neo4j.driver.v1.Config.TrustStrategy;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.exceptions.ClientException;
@@ -57,13 +55,17 @@ public class TLSSocketChannel implements ByteChannel
     private final Logger logger;
 
     private SSLEngine sslEngine;
+    private boolean resumedSession;
 
-    /** The buffer for network data */
+    /**
+     * The buffers for network data and for deciphered application data. They are sized for the largest TLS record
+     * when the channel is created and reused for as long as it is open.
+     */
     private ByteBuffer cipherOut;
     private ByteBuffer cipherIn;
-    /** The buffer for application data */
     private ByteBuffer plainIn;
-    private ByteBuffer plainOut;
+    /** Whether cipherIn holds records left to decipher, which did not fit into plainIn by the previous unwrap */
+    private boolean cipherInHoldsRecords;
 
     private static final ByteBuffer DUMMY_BUFFER = ByteBuffer.allocate( 0 );
 
@@ -71,6 +73,8 @@ public class TLSSocketChannel implements ByteChannel
             throws GeneralSecurityException, IOException
     {
         this( channel, logger, createSSLEngine( address, securityPlan.sslContext() ) );
+        resumedSession = securityPlan.handshakeCompleted( address, sslEngine.getSession() );
+        logger.debug( "~~ [OPENED SECURE CHANNEL] %s", resumedSession ? "resumed session" : "new session" );
     }
 
     public TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine ) throws GeneralSecurityException, IOException
@@ -78,12 +82,11 @@ public class TLSSocketChannel implements ByteChannel
         this(channel, logger, sslEngine,
              ByteBuffer.allocate( sslEngine.getSession().getApplicationBufferSize() ),
              ByteBuffer.allocate( sslEngine.getSession().getPacketBufferSize() ),
-             ByteBuffer.allocate( sslEngine.getSession().getApplicationBufferSize() ),
              ByteBuffer.allocate( sslEngine.getSession().getPacketBufferSize() ) );
     }
 
     TLSSocketChannel( ByteChannel channel, Logger logger, SSLEngine sslEngine,
-                      ByteBuffer plainIn, ByteBuffer cipherIn, ByteBuffer plainOut, ByteBuffer cipherOut )
+                      ByteBuffer plainIn, ByteBuffer cipherIn, ByteBuffer cipherOut )
             throws GeneralSecurityException, IOException
     {
         this.logger = logger;
@@ -91,7 +94,6 @@ public class TLSSocketChannel implements ByteChannel
         this.sslEngine = sslEngine;
         this.plainIn = plainIn;
         this.cipherIn = cipherIn;
-        this.plainOut = plainOut;
         this.cipherOut = cipherOut;
         runHandshake();
     }
@@ -130,12 +132,21 @@ public class TLSSocketChannel implements ByteChannel
                 break;
             case NEED_WRAP:
                 // Wrap the app packet into an ssl packet to add ssl handshake information
-                handshakeStatus = wrap( plainOut );
+                handshakeStatus = wrap( DUMMY_BUFFER );
                 break;
             }
         }
     }
 
+    /**
+     * @return true if the handshake resumed a session negotiated earlier, instead of running the full key exchange,
+     * always false for channels not created for a {@link SecurityPlan}
+     */
+    public boolean resumedSession()
+    {
+        return resumedSession;
+    }
+
     private HandshakeStatus runDelegatedTasks()
     {
         Runnable runnable;
@@ -151,9 +162,11 @@ public class TLSSocketChannel implements ByteChannel
      * them.
      *
      * These deciphered data would be saved into {@code buffer} if it is specified (not null) and if its size is
-     * greater than the size of deciphered data.
+     * greater than the size of deciphered data. When {@code buffer} has room for the largest record, and no
+     * deciphered data is waiting in {@code plainIn}, records are deciphered straight into it.
      * Otherwise, the deciphered bytes or the bytes that could not fit into {@code buffer} would be left in {@code
-     * plainIn} buffer.
+     * plainIn} buffer. Once {@code plainIn} cannot take another record, the remaining records are left in
+     * {@code cipherIn}, to be deciphered by the next call before anything more is read from the channel.
      *
      * If the byes in {@code plaintIn} will not be used outside this method, we should always clear {@code
      * plainIn} after each call to avoid wasting memory on it.
@@ -176,53 +189,56 @@ public class TLSSocketChannel implements ByteChannel
         /**
          * This is the only place to read from the underlying channel
          */
-        if ( channel.read( cipherIn ) < 0 )
+        if ( !cipherInHoldsRecords && channel.read( cipherIn ) < 0 )
         {
             throw new ClientException( "Failed to establish SSL socket connection." );
         }
+        cipherInHoldsRecords = false;
         cipherIn.flip();
 
         Status status;
         do
         {
-            SSLEngineResult unwrapResult = sslEngine.unwrap( cipherIn, plainIn );
+            ByteBuffer target = plainIn.position() == 0 && buffer.remaining() >= plainIn.capacity() ? buffer : plainIn;
+            SSLEngineResult unwrapResult = sslEngine.unwrap( cipherIn, target );
             status = unwrapResult.getStatus();
             // Possible status here:
             // OK - good
-            // BUFFER_OVERFLOW - we need to enlarge* plainIn
-            // BUFFER_UNDERFLOW - we need to enlarge* cipherIn and read more bytes from channel
+            // BUFFER_OVERFLOW - plainIn is still holding data that did not fit into buffer
+            // BUFFER_UNDERFLOW - we need to read more bytes from channel
 
-            /* In normal situations, enlarging buffers should happen very very rarely, as usually,
-             the initial size for application buffer and network buffer is greater than 1024 * 10,
-             and by using ChunkedInput and ChunkedOutput, the chunks are limited to 8192.
-             So we should not value any enlarging buffer request in most cases. */
+            /* The buffers are sized for the largest record the session allows, so that enlarging them should
+             never be needed. Only engines that announce a size smaller than what they later need cause one. */
             switch ( status )
             {
             case OK:
-                plainIn.flip();
-                bufferCopy( plainIn, buffer );
-                plainIn.compact();
+                if ( target == plainIn )
+                {
+                    plainIn.flip();
+                    bufferCopy( plainIn, buffer );
+                    plainIn.compact();
+                }
                 handshakeStatus = runDelegatedTasks();
                 break;
             case BUFFER_OVERFLOW:
-                plainIn.flip();
-                // Could attempt to drain the plainIn buffer of any already obtained
-                // data, but we'll just increase it to the size needed.
+                if ( plainIn.position() > 0 )
+                {
+                    // Leave the remaining records until the data in plainIn has been read
+                    cipherInHoldsRecords = true;
+                    cipherIn.compact();
+                    return handshakeStatus;
+                }
                 int curAppSize = plainIn.capacity();
                 int appSize = sslEngine.getSession().getApplicationBufferSize();
-                int newAppSize = appSize + plainIn.remaining();
-                if ( newAppSize > appSize * 2 )
+                if ( appSize <= curAppSize )
                 {
-                    throw new ClientException(
-                            String.format( "Failed ro enlarge application input buffer from %s to %s, as the maximum " +
-                                           "buffer size allowed is %s. The content in the buffer is: %s\n",
-                                    curAppSize, newAppSize, appSize * 2, BytePrinter.hex( plainIn ) ) );
+                    throw new ClientException( String.format(
+                            "Failed to decipher a record into an application input buffer of %s bytes, as the " +
+                            "session requires at most %s bytes.", curAppSize, appSize ) );
                 }
-                ByteBuffer newPlainIn = ByteBuffer.allocate( newAppSize );
-                newPlainIn.put( plainIn );
-                plainIn = newPlainIn;
+                plainIn = ByteBuffer.allocate( appSize );
                 logger.debug( "Enlarged application input buffer from %s to %s. " +
-                              "This operation should be a rare operation.", curAppSize, newAppSize );
+                              "This operation should be a rare operation.", curAppSize, appSize );
                 // retry the operation.
                 break;
             case BUFFER_UNDERFLOW:
@@ -341,13 +357,11 @@ public class TLSSocketChannel implements ByteChannel
     {
         int maxTransfer = Math.min( to.remaining(), from.remaining() );
 
-        //use a temp buffer and move all data in one go
-        ByteBuffer temporaryBuffer = from.duplicate();
-        temporaryBuffer.limit( temporaryBuffer.position() + maxTransfer );
-        to.put( temporaryBuffer );
-
-        //move postion so it appears as if we read the buffer
-        from.position( from.position() + maxTransfer );
+        //narrow the limit to move all data in one go, without creating a temp buffer
+        int limit = from.limit();
+        from.limit( from.position() + maxTransfer );
+        to.put( from );
+        from.limit( limit );
 
         return maxTransfer;
     }
@@ -415,14 +429,13 @@ public class TLSSocketChannel implements ByteChannel
     {
         try
         {
-            plainOut.clear();
             // Indicate that application is done with engine
             sslEngine.closeOutbound();
 
             while ( !sslEngine.isOutboundDone() )
             {
                 // Get close message
-                SSLEngineResult res = sslEngine.wrap( plainOut, cipherOut );
+                SSLEngineResult res = sslEngine.wrap( DUMMY_BUFFER, cipherOut );
 
                 // Check res statuses
 
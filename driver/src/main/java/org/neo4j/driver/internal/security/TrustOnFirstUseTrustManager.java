@@ -18,17 +18,17 @@
  */
 package org.neo4j.driver.internal.security;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.net.Socket;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
-import javax.net.ssl.X509TrustManager;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.v1.Logger;
@@ -38,10 +38,13 @@ import static java.lang.String.format;
 import static org.neo4j.driver.internal.util.CertificateTool.X509CertToString;
 
 /**
+ * Trusts the certificate a server presents the first time the driver connects to it, and from then on only that
+ * certificate. Servers are identified by the host and port the engine checking the certificate connects to.
+ *
  * References:
  * http://stackoverflow.com/questions/6802421/how-to-compare-distinct-implementations-of-java-security-cert-x509certificate?answertab=votes#tab-top
  */
-public class TrustOnFirstUseTrustManager implements X509TrustManager
+public class TrustOnFirstUseTrustManager extends X509ExtendedTrustManager
 {
     /**
      * A list of pairs (known_server certificate) are stored in this file.
@@ -50,135 +53,117 @@ public class TrustOnFirstUseTrustManager implements X509TrustManager
      * Then when we try to connect to a known server again, we will authenticate the server by checking if it provides
      * the same certificate as the one saved in this file.
      */
-    private final File knownHosts;
+    private final KnownHosts knownHosts;
+
+    /** Max number of certificates whose fingerprint is remembered */
+    private static final int FINGERPRINT_CACHE_SIZE = 64;
+
+    /**
+     * Fingerprints of certificates checked before. Certificates are equal when their encoded forms are, so that
+     * checking a server again with the same certificate skips the digest.
+     */
+    private final ConcurrentMap<X509Certificate,String> fingerprintCache = new ConcurrentHashMap<>();
 
-    /** The server ip:port (in digits) of the server that we are currently connected to */
+    /** The server ip:port (in digits) of the server to check, when the peer is not known */
     private final String serverId;
     private final Logger logger;
 
-    /** The known certificate we've registered for this server */
-    private String fingerprint;
-
     TrustOnFirstUseTrustManager( BoltServerAddress address, File knownHosts, Logger logger ) throws IOException
     {
         this.logger = logger;
         this.serverId = address.toString();
-        this.knownHosts = knownHosts;
-        load();
+        this.knownHosts = new KnownHosts( knownHosts );
     }
 
-    /**
-     * Try to load the certificate form the file if the server we've connected is a known server.
-     *
-     * @throws IOException
+    /*
+     * Disallow all client connection to this client
      */
-    private void load() throws IOException
+    public void checkClientTrusted( X509Certificate[] chain, String authType )
+            throws CertificateException
     {
-        if ( !knownHosts.exists() )
-        {
-            return;
-        }
-
-        assertKnownHostFileReadable();
-
-        BufferedReader reader = new BufferedReader( new FileReader( knownHosts ) );
-        String line;
-        while ( (line = reader.readLine()) != null )
-        {
-            if ( (!line.trim().startsWith( "#" )) )
-            {
-                String[] strings = line.split( " " );
-                if ( strings[0].trim().equals( serverId ) )
-                {
-                    // load the certificate
-                    fingerprint = strings[1].trim();
-                    return;
-                }
-            }
-        }
-        reader.close();
+        throw new CertificateException( "All client connections to this client are forbidden." );
     }
 
-    /**
-     * Save a new (server_ip, cert) pair into knownHosts file
-     *
-     * @param fingerprint the SHA-512 fingerprint of the host certificate
-     */
-    private void saveTrustedHost( String fingerprint ) throws IOException
+    @Override
+    public void checkClientTrusted( X509Certificate[] chain, String authType, Socket socket )
+            throws CertificateException
     {
-        this.fingerprint = fingerprint;
-
-        logger.warn( "Adding %s as known and trusted certificate for %s.", fingerprint, serverId );
-        createKnownCertFileIfNotExists();
-
-        assertKnownHostFileWritable();
-        BufferedWriter writer = new BufferedWriter( new FileWriter( knownHosts, true ) );
-        writer.write( serverId + " " + this.fingerprint );
-        writer.newLine();
-        writer.close();
+        checkClientTrusted( chain, authType );
     }
 
+    @Override
+    public void checkClientTrusted( X509Certificate[] chain, String authType, SSLEngine engine )
+            throws CertificateException
+    {
+        checkClientTrusted( chain, authType );
+    }
 
-    private void assertKnownHostFileReadable() throws IOException
+    public void checkServerTrusted( X509Certificate[] chain, String authType )
+            throws CertificateException
     {
-        if( !knownHosts.canRead() )
-        {
-            throw new IOException( format(
-                    "Failed to load certificates from file %s as you have no read permissions to it.\n" +
-                    "Try configuring the Neo4j driver to use a file system location you do have read permissions to.",
-                    knownHosts.getAbsolutePath()
-            ) );
-        }
+        checkTrusted( chain, serverId );
     }
 
-    private void assertKnownHostFileWritable() throws IOException
+    @Override
+    public void checkServerTrusted( X509Certificate[] chain, String authType, Socket socket )
+            throws CertificateException
     {
-        if( !knownHosts.canWrite() )
-        {
-            throw new IOException( format(
-                    "Failed to write certificates to file %s as you have no write permissions to it.\n" +
-                    "Try configuring the Neo4j driver to use a file system location you do have write permissions to.",
-                    knownHosts.getAbsolutePath()
-            ) );
-        }
+        checkTrusted( chain, serverId );
     }
 
-    /*
-     * Disallow all client connection to this client
-     */
-    public void checkClientTrusted( X509Certificate[] chain, String authType )
+    @Override
+    public void checkServerTrusted( X509Certificate[] chain, String authType, SSLEngine engine )
             throws CertificateException
     {
-        throw new CertificateException( "All client connections to this client are forbidden." );
+        String peerHost = engine.getPeerHost();
+        int peerPort = engine.getPeerPort();
+        checkTrusted( chain, peerHost == null || peerPort < 0 ? serverId
+                                                                    : new BoltServerAddress( peerHost, peerPort ).toString() );
     }
 
     /*
      * Trust the cert if it is seen first time for this server or it is the same with the one registered.
      */
-    public void checkServerTrusted( X509Certificate[] chain, String authType )
+    private void checkTrusted( X509Certificate[] chain, String serverId )
             throws CertificateException
     {
         X509Certificate certificate = chain[0];
 
-        String cert = fingerprint( certificate );
+        String cert = cachedFingerprint( certificate );
 
-        if ( this.fingerprint == null )
+        String fingerprint = knownHosts.trustOnFirstUse( serverId, cert );
+        if ( fingerprint == null )
         {
+            logger.warn( "Adding %s as known and trusted certificate for %s.", cert, serverId );
             try
             {
-                saveTrustedHost( cert );
+                knownHosts.persist();
             }
             catch ( IOException e )
             {
                 throw new CertificateException( format(
                         "Failed to save the server ID and the certificate received from the server to file %s.\n" +
                         "Server ID: %s\nReceived cert:\n%s",
-                        knownHosts.getAbsolutePath(), serverId, X509CertToString( cert ) ), e );
+                        knownHosts.file().getAbsolutePath(), serverId, X509CertToString( cert ) ), e );
+            }
+
+            String persisted = knownHosts.fingerprint( serverId );
+            if ( !persisted.equals( cert ) )
+            {
+                throw new CertificateException( format(
+                        "Unable to connect to neo4j at `%s`, because another driver sharing the file `%s` trusted " +
+                        "a different certificate for it first. " +
+                        "This is a security feature to protect against man-in-the-middle attacks.\n" +
+                        "If you trust the certificate the server uses now, simply remove the line that starts with " +
+                        "`%s` in that file.\n" +
+                        "The certificate saved in file is:\n%sThe certificate received is:\n%s",
+                        serverId, knownHosts.file().getAbsolutePath(), serverId,
+                        X509CertToString( persisted ), X509CertToString( cert ) ) );
             }
         }
         else
         {
-            if ( !this.fingerprint.equals( cert ) )
+            if ( !fingerprint.equals( cert ) )
             {
                 throw new CertificateException( format(
                         "Unable to connect to neo4j at `%s`, because the certificate the server uses has changed. " +
@@ -187,10 +172,26 @@ public class TrustOnFirstUseTrustManager implements X509TrustManager
                         "`%s` " +
                         "in the file `%s`.\n" +
                         "The old certificate saved in file is:\n%sThe New certificate received is:\n%s",
-                        serverId, serverId, knownHosts.getAbsolutePath(),
-                        X509CertToString( this.fingerprint ), X509CertToString( cert ) ) );
+                        serverId, serverId, knownHosts.file().getAbsolutePath(),
+                        X509CertToString( fingerprint ), X509CertToString( cert ) ) );
+            }
+        }
+    }
+
+    private String cachedFingerprint( X509Certificate certificate ) throws CertificateException
+    {
+        String fingerprint = fingerprintCache.get( certificate );
+        if ( fingerprint == null )
+        {
+            fingerprint = fingerprint( certificate );
+            if ( fingerprintCache.size() >= FINGERPRINT_CACHE_SIZE )
+            {
+                // there are only as many certificates as servers, so this should hardly ever happen
+                fingerprintCache.clear();
             }
+            fingerprintCache.put( certificate, fingerprint );
         }
+        return fingerprint;
     }
 
     /**
@@ -211,46 +212,6 @@ public class TrustOnFirstUseTrustManager implements X509TrustManager
         }
     }
 
-    private File createKnownCertFileIfNotExists() throws IOException
-    {
-        if ( !knownHosts.exists() )
-        {
-            File parentDir = knownHosts.getParentFile();
-            try
-            {
-                if ( parentDir != null && !parentDir.exists() )
-                {
-                    if ( !parentDir.mkdirs() )
-                    {
-                        throw new IOException( "Failed to create directories for the known hosts file in " + knownHosts.getAbsolutePath() +
-                                               ". This is usually because you do not have write permissions to the directory. " +
-                                               "Try configuring the Neo4j driver to use a file system location you do have write permissions to." );
-                    }
-                }
-                if ( !knownHosts.createNewFile() )
-                {
-                    throw new IOException( "Failed to create a known hosts file at " + knownHosts.getAbsolutePath() +
-                                           ". This is usually because you do not have write permissions to the directory. " +
-                                           "Try configuring the Neo4j driver to use a file system location you do have write permissions to." );
-                }
-            }
-            catch( SecurityException e )
-            {
-                throw new IOException( "Failed to create known host file and/or parent directories at " + knownHosts.getAbsolutePath() +
-                                       ". This is usually because you do not have write permission to the directory. " +
-                                       "Try configuring the Neo4j driver to use a file location you have write permissions to." );
-            }
-            BufferedWriter writer = new BufferedWriter( new FileWriter( knownHosts ) );
-            writer.write( "# This file contains trusted certificates for Neo4j servers, it's created by Neo4j drivers." );
-            writer.newLine();
-            writer.write( "# You can configure the location of this file in `org.neo4j.driver.Config`" );
-            writer.newLine();
-            writer.close();
-        }
-
-        return knownHosts;
-    }
-
     /**
      * No issuer is trusted.
      */
@@ -19,6 +19,9 @@
 
 package org.neo4j.driver.internal.spi;
 
+import java.util.Collection;
+import java.util.concurrent.Future;
+
 import org.neo4j.driver.internal.net.BoltServerAddress;
 
 public interface ConnectionPool extends AutoCloseable
@@ -38,4 +41,14 @@ public interface ConnectionPool extends AutoCloseable
     void purge( BoltServerAddress address );
 
     boolean hasAddress( BoltServerAddress address );
+
+    /**
+     * Open connections to the given addresses in the background, until each of them has the given number of idle
+     * connections ready to be acquired.
+     *
+     * @param addresses The addresses to connect to.
+     * @param connectionsPerServer The number of idle connections wanted per address.
+     * @return a future that completes once all connection attempts have finished, and fails if any of them failed.
+     */
+    Future<Void> warmUp( Collection<BoltServerAddress> addresses, int connectionsPerServer );
 }
@@ -24,6 +24,7 @@ import org.neo4j.driver.v1.types.TypeSystem;
 
 import static org.neo4j.driver.internal.types.TypeConstructor.ANY_TyCon;
 import static org.neo4j.driver.internal.types.TypeConstructor.BOOLEAN_TyCon;
+import static org.neo4j.driver.internal.types.TypeConstructor.BYTES_TyCon;
 import static org.neo4j.driver.internal.types.TypeConstructor.FLOAT_TyCon;
 import static org.neo4j.driver.internal.types.TypeConstructor.INTEGER_TyCon;
 import static org.neo4j.driver.internal.types.TypeConstructor.LIST_TyCon;
@@ -48,6 +49,7 @@ public class InternalTypeSystem implements TypeSystem
     private final TypeRepresentation anyType = constructType( ANY_TyCon );
     private final TypeRepresentation booleanType = constructType( BOOLEAN_TyCon );
     private final TypeRepresentation stringType = constructType( STRING_TyCon );
+    private final TypeRepresentation bytesType = constructType( BYTES_TyCon );
     private final TypeRepresentation numberType = constructType( NUMBER_TyCon );
     private final TypeRepresentation integerType = constructType( INTEGER_TyCon );
     private final TypeRepresentation floatType = constructType( FLOAT_TyCon );
@@ -83,6 +85,13 @@ public class InternalTypeSystem implements TypeSystem
         return stringType;
     }
 
+    /** the Cypher type BYTES */
+    @Override
+    public Type BYTES()
+    {
+        return bytesType;
+    }
+
     /** the Cypher type NUMBER */
     @Override
     public Type NUMBER()
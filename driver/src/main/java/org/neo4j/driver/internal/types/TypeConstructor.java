@@ -52,6 +52,14 @@ public enum TypeConstructor
         }
     },
 
+    BYTES_TyCon {
+        @Override
+        public String typeName()
+        {
+            return "BYTES";
+        }
+    },
+
     NUMBER_TyCon {
         @Override
         public boolean covers( Value value )
@@ -27,6 +27,8 @@ import static java.nio.ByteBuffer.wrap;
 
 public class BytePrinter
 {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     /**
      * Print a full byte array as nicely formatted groups of hex numbers.
      * Output looks like:
@@ -205,12 +207,13 @@ public class BytePrinter
      */
     public static String compactHex( byte[] bytes )
     {
-        StringBuilder sb = new StringBuilder();
-        for ( byte b : bytes )
+        char[] chars = new char[bytes.length * 2];
+        for ( int i = 0; i < bytes.length; i++ )
         {
-            sb.append( hex(b) );
+            chars[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xF];
         }
-        return sb.toString();
+        return new String( chars );
     }
 
     public static byte[] hexStringToBytes( String s )
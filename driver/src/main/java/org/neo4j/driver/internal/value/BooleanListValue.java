@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+
+public class BooleanListValue extends PrimitiveListValue
+{
+    private final boolean[] values;
+
+    public BooleanListValue( boolean... values )
+    {
+        if ( values == null )
+        {
+            throw new IllegalArgumentException( "Cannot construct BooleanListValue from null" );
+        }
+        this.values = values;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public Value get( int index )
+    {
+        return index >= 0 && index < values.length ? BooleanValue.fromBoolean( values[index] ) : Values.NULL;
+    }
+
+    @Override
+    protected Object element( int index )
+    {
+        return values[index];
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        return values;
+    }
+}
@@ -70,6 +70,39 @@ public class ListValue extends ValueAdapter
         return Extract.list( values, mapFunction );
     }
 
+    @Override
+    public long[] asLongArray()
+    {
+        long[] longs = new long[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            longs[i] = values[i].asLong();
+        }
+        return longs;
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        double[] doubles = new double[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            doubles[i] = values[i].asDouble();
+        }
+        return doubles;
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        boolean[] booleans = new boolean[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            booleans[i] = values[i].asBoolean();
+        }
+        return booleans;
+    }
+
     @Override
     public int size()
     {
@@ -143,6 +176,10 @@ public class ListValue extends ValueAdapter
         {
             return true;
         }
+        if ( o instanceof PrimitiveListValue )
+        {
+            return o.equals( this );
+        }
         if ( o == null || getClass() != o.getClass() )
         {
             return false;
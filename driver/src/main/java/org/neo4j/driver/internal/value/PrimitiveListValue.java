@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.types.Type;
+import org.neo4j.driver.v1.util.Function;
+
+import static org.neo4j.driver.internal.value.InternalValue.Format.VALUE_ONLY;
+
+/**
+ * A list whose elements are all of the same primitive type, kept in an array of that type rather than as
+ * individual {@link Value values}. Elements are turned into values only when accessed as such, and the list
+ * equals any other list, packed or not, with the same elements.
+ */
+public abstract class PrimitiveListValue extends ValueAdapter
+{
+    /**
+     * @param index the index of an element in this list
+     * @return the element at the given index, boxed into the Java type it is converted to by {@link #asObject()}
+     */
+    protected abstract Object element( int index );
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    @Override
+    public List<Object> asObject()
+    {
+        return asList();
+    }
+
+    @Override
+    public List<Object> asList()
+    {
+        int size = size();
+        List<Object> list = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            list.add( element( i ) );
+        }
+        return list;
+    }
+
+    @Override
+    public <T> List<T> asList( Function<Value,T> mapFunction )
+    {
+        int size = size();
+        List<T> list = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            list.add( mapFunction.apply( get( i ) ) );
+        }
+        return list;
+    }
+
+    // the array of the element type is returned as is by each subclass, the others are converted like by ListValue
+
+    @Override
+    public long[] asLongArray()
+    {
+        long[] longs = new long[size()];
+        for ( int i = 0; i < longs.length; i++ )
+        {
+            longs[i] = get( i ).asLong();
+        }
+        return longs;
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        double[] doubles = new double[size()];
+        for ( int i = 0; i < doubles.length; i++ )
+        {
+            doubles[i] = get( i ).asDouble();
+        }
+        return doubles;
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        boolean[] booleans = new boolean[size()];
+        for ( int i = 0; i < booleans.length; i++ )
+        {
+            booleans[i] = get( i ).asBoolean();
+        }
+        return booleans;
+    }
+
+    @Override
+    public <T> Iterable<T> values( final Function<Value,T> mapFunction )
+    {
+        return new Iterable<T>()
+        {
+            @Override
+            public Iterator<T> iterator()
+            {
+                return new Iterator<T>()
+                {
+                    private int cursor = 0;
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return cursor < size();
+                    }
+
+                    @Override
+                    public T next()
+                    {
+                        return mapFunction.apply( get( cursor++ ) );
+                    }
+
+                    @Override
+                    public void remove()
+                    {
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public String asLiteralString()
+    {
+        return toString( VALUE_ONLY );
+    }
+
+    @Override
+    public Type type()
+    {
+        return InternalTypeSystem.TYPE_SYSTEM.LIST();
+    }
+
+    @Override
+    public String toString( Format valueFormat )
+    {
+        StringBuilder builder = new StringBuilder( "[" );
+        for ( int i = 0; i < size(); i++ )
+        {
+            if ( i > 0 )
+            {
+                builder.append( ", " );
+            }
+            builder.append( valueFormat.inner().apply( get( i ) ) );
+        }
+        return maybeWithType( valueFormat.includeType(), builder.append( ']' ).toString() );
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( !(o instanceof ListValue || o instanceof PrimitiveListValue) )
+        {
+            return false;
+        }
+
+        Value otherValues = (Value) o;
+        int size = size();
+        if ( size != otherValues.size() )
+        {
+            return false;
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( !get( i ).equals( otherValues.get( i ) ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        // the same as Arrays.hashCode() of the element values, and so of a ListValue with the same elements
+        int hashCode = 1;
+        for ( int i = 0; i < size(); i++ )
+        {
+            hashCode = 31 * hashCode + get( i ).hashCode();
+        }
+        return hashCode;
+    }
+}
@@ -132,6 +132,30 @@ public abstract class ValueAdapter extends InternalMapAccessorWithDefaultValue i
         throw new Uncoercible( type().name(), "Java List" );
     }
 
+    @Override
+    public byte[] asByteArray()
+    {
+        throw new Uncoercible( type().name(), "Java byte[]" );
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        throw new Uncoercible( type().name(), "Java long[]" );
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        throw new Uncoercible( type().name(), "Java double[]" );
+    }
+
+    @Override
+    public boolean[] asBooleanArray()
+    {
+        throw new Uncoercible( type().name(), "Java boolean[]" );
+    }
+
     @Override
     public Map<String,Object> asMap()
     {
@@ -19,9 +19,12 @@
 package org.neo4j.driver.v1;
 
 import java.io.File;
+import java.security.Security;
 import java.util.logging.Level;
 
 import org.neo4j.driver.internal.logging.JULogging;
+import org.neo4j.driver.internal.net.BufferingChunkedInput;
+import org.neo4j.driver.internal.net.SocketSettings;
 import org.neo4j.driver.internal.net.pooling.PoolSettings;
 import org.neo4j.driver.v1.util.Immutable;
 
@@ -45,6 +48,9 @@ import static org.neo4j.driver.v1.Config.TrustStrategy.trustOnFirstUse;
 @Immutable
 public class Config
 {
+    /** The {@link ConfigBuilder#withMaxBufferedRecords(int) max number of buffered records} that means no limit */
+    public static final int NO_RECORD_BUFFER_LIMIT = Integer.MAX_VALUE;
+
     /** User defined logging */
     private final Logging logging;
 
@@ -53,12 +59,45 @@ public class Config
     /** Connections that have been idle longer than this threshold will have a ping test performed on them. */
     private final long idleTimeBeforeConnectionTest;
 
+    private final int maxConnectionPoolSize;
+
+    /** How long to wait for a connection when all connections to a server are in use */
+    private final long connectionAcquisitionTimeout;
+
+    private final int minIdleConnectionPoolSize;
+
+    /** Connections that have been idle longer than this threshold are closed in the background. */
+    private final long idleTimeBeforeConnectionEviction;
+
+    /** Number of connections to open to each known server when the driver is created */
+    private final int warmUpConnectionsPerServer;
+
+    /** Records of a single result that may be held in memory before they are consumed */
+    private final int maxBufferedRecordsPerResult;
+
+    /** Bounds of the buffer each connection reads from the network into */
+    private final int minReadBufferSize;
+    private final int maxReadBufferSize;
+
+    /** Whether messages are held back until the driver waits for a reply, to send them in one go */
+    private final boolean messageCoalescing;
+
+    /** Options of the TCP socket each connection uses */
+    private final boolean tcpNoDelay;
+    private final int socketSendBufferSize;
+    private final int socketReceiveBufferSize;
+    private final long connectionTimeout;
+    private final long readTimeout;
+
     /** Level of encryption we need to adhere to */
     private final EncryptionLevel encryptionLevel;
 
     /** Strategy for how to trust encryption certificate */
     private final TrustStrategy trustStrategy;
 
+    /** Name of the JCA provider TLS is implemented by, null for the default */
+    private final String sslProvider;
+
     private final int minServersInCluster;
 
     private Config( ConfigBuilder builder)
@@ -67,9 +106,24 @@ public class Config
 
         this.maxIdleConnectionPoolSize = builder.maxIdleConnectionPoolSize;
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
+        this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.connectionAcquisitionTimeout = builder.connectionAcquisitionTimeout;
+        this.minIdleConnectionPoolSize = builder.minIdleConnectionPoolSize;
+        this.idleTimeBeforeConnectionEviction = builder.idleTimeBeforeConnectionEviction;
+        this.warmUpConnectionsPerServer = builder.warmUpConnectionsPerServer;
+        this.maxBufferedRecordsPerResult = builder.maxBufferedRecordsPerResult;
+        this.minReadBufferSize = builder.minReadBufferSize;
+        this.maxReadBufferSize = builder.maxReadBufferSize;
+        this.messageCoalescing = builder.messageCoalescing;
+        this.tcpNoDelay = builder.tcpNoDelay;
+        this.socketSendBufferSize = builder.socketSendBufferSize;
+        this.socketReceiveBufferSize = builder.socketReceiveBufferSize;
+        this.connectionTimeout = builder.connectionTimeout;
+        this.readTimeout = builder.readTimeout;
 
         this.encryptionLevel = builder.encryptionLevel;
         this.trustStrategy = builder.trustStrategy;
+        this.sslProvider = builder.sslProvider;
         this.minServersInCluster = builder.minServersInCluster;
     }
 
@@ -111,6 +165,132 @@ public class Config
         return idleTimeBeforeConnectionTest;
     }
 
+    /**
+     * Max number of connections per URL that can be in use at the same time.
+     * @return the max number of connections
+     */
+    public int maxConnectionPoolSize()
+    {
+        return maxConnectionPoolSize;
+    }
+
+    /**
+     * Maximum time to wait for a connection when all connections to a server are in use.
+     * @return acquisition timeout in milliseconds
+     */
+    public long connectionAcquisitionTimeout()
+    {
+        return connectionAcquisitionTimeout;
+    }
+
+    /**
+     * Min number of idle connections per URL that the driver keeps open in the background.
+     * @return the min number of idle connections
+     */
+    public int minIdleConnectionPoolSize()
+    {
+        return minIdleConnectionPoolSize;
+    }
+
+    /**
+     * Pooled connections that have been unused for longer than this timeout will be closed in the background.
+     * @return idle time in milliseconds, or a negative value if idle connections are never closed
+     */
+    public long idleTimeBeforeConnectionEviction()
+    {
+        return idleTimeBeforeConnectionEviction;
+    }
+
+    /**
+     * Number of connections per URL the driver opens in the background when it is created.
+     * @return the number of connections, zero if the connection pool is not warmed up
+     */
+    public int warmUpConnectionsPerServer()
+    {
+        return warmUpConnectionsPerServer;
+    }
+
+    /**
+     * Max number of records of a single result that are held in memory before they are consumed.
+     * @return the max number of buffered records per result
+     */
+    public int maxBufferedRecordsPerResult()
+    {
+        return maxBufferedRecordsPerResult;
+    }
+
+    /**
+     * Initial, and smallest, size in bytes of the buffer each connection reads into.
+     * @return the min read buffer size
+     */
+    public int minReadBufferSize()
+    {
+        return minReadBufferSize;
+    }
+
+    /**
+     * Size in bytes up to which the buffer each connection reads into grows.
+     * @return the max read buffer size
+     */
+    public int maxReadBufferSize()
+    {
+        return maxReadBufferSize;
+    }
+
+    /**
+     * Whether messages are held back until the driver needs a reply from the server.
+     * @return true if message coalescing is enabled
+     */
+    public boolean messageCoalescingEnabled()
+    {
+        return messageCoalescing;
+    }
+
+    /**
+     * Whether Nagle's algorithm is disabled on connection sockets.
+     * @return true if TCP_NODELAY is set
+     */
+    public boolean tcpNoDelay()
+    {
+        return tcpNoDelay;
+    }
+
+    /**
+     * Size in bytes of the send buffer of connection sockets, zero if the operating system default is used.
+     * @return the socket send buffer size
+     */
+    public int socketSendBufferSize()
+    {
+        return socketSendBufferSize;
+    }
+
+    /**
+     * Size in bytes of the receive buffer of connection sockets, zero if the operating system default is used.
+     * @return the socket receive buffer size
+     */
+    public int socketReceiveBufferSize()
+    {
+        return socketReceiveBufferSize;
+    }
+
+    /**
+     * Maximum time in milliseconds to wait for a connection to be established, zero if there is no limit.
+     * @return the connection timeout
+     */
+    public long connectionTimeout()
+    {
+        return connectionTimeout;
+    }
+
+    /**
+     * Maximum time in milliseconds to wait for data from the server, zero if there is no limit.
+     * @return the read timeout
+     */
+    public long readTimeout()
+    {
+        return readTimeout;
+    }
+
     /**
      * @return the level of encryption required for all connections.
      */
@@ -127,6 +307,14 @@ public class Config
         return trustStrategy;
     }
 
+    /**
+     * @return the name of the security provider implementing TLS, or null if the highest priority one is used.
+     */
+    public String sslProvider()
+    {
+        return sslProvider;
+    }
+
     /**
      * Return a {@link ConfigBuilder} instance
      * @return a {@link ConfigBuilder} instance
@@ -152,9 +340,24 @@ public class Config
         private Logging logging = new JULogging( Level.INFO );
         private int maxIdleConnectionPoolSize = PoolSettings.DEFAULT_MAX_IDLE_CONNECTION_POOL_SIZE;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private long connectionAcquisitionTimeout = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
+        private int minIdleConnectionPoolSize = PoolSettings.DEFAULT_MIN_IDLE_CONNECTION_POOL_SIZE;
+        private long idleTimeBeforeConnectionEviction = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_EVICTION;
+        private int warmUpConnectionsPerServer = 0;
+        private int maxBufferedRecordsPerResult = NO_RECORD_BUFFER_LIMIT;
+        private int minReadBufferSize = BufferingChunkedInput.STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE;
+        private int maxReadBufferSize = BufferingChunkedInput.DEFAULT_MAX_BUFFER_SIZE;
+        private boolean messageCoalescing = false;
+        private boolean tcpNoDelay = SocketSettings.DEFAULT_TCP_NO_DELAY;
+        private int socketSendBufferSize = SocketSettings.OS_DEFAULT_BUFFER_SIZE;
+        private int socketReceiveBufferSize = SocketSettings.OS_DEFAULT_BUFFER_SIZE;
+        private long connectionTimeout = SocketSettings.DEFAULT_CONNECT_TIMEOUT;
+        private long readTimeout = SocketSettings.NO_READ_TIMEOUT;
         private EncryptionLevel encryptionLevel = EncryptionLevel.REQUIRED_NON_LOCAL;
         private TrustStrategy trustStrategy = trustOnFirstUse(
                 new File( getProperty( "user.home" ), ".neo4j" + File.separator + "known_hosts" ) );
+        private String sslProvider;
         public int minServersInCluster = 3;
 
         private ConfigBuilder() {}
@@ -202,12 +405,75 @@ public class Config
             return this;
         }
 
+        /**
+         * The min number of idle sessions to keep open at once. The driver opens
+         * new connections in the background whenever fewer than this are idle,
+         * so that sessions can be handed out without waiting for a new connection
+         * to be established.
+         *
+         * @param size the min number of idle sessions to keep open, at most the
+         * {@link #withMaxIdleSessions(int) max number of idle sessions} and the
+         * {@link #withMaxConnectionPoolSize(int) max connection pool size}
+         * @return this builder
+         */
+        public ConfigBuilder withMinIdleSessions( int size )
+        {
+            if ( size < 0 )
+            {
+                throw new IllegalArgumentException( "The min number of idle sessions must not be negative, got " +
+                                                    size );
+            }
+            this.minIdleConnectionPoolSize = size;
+            return this;
+        }
+
+        /**
+         * Pooled sessions that have been unused for longer than this timeout
+         * will be closed in the background, as long as at least the
+         * {@link #withMinIdleSessions(int) min number of idle sessions} remains.
+         *
+         * By default idle sessions are never closed.
+         *
+         * @param timeout idle time in milliseconds, a negative value disables closing of idle sessions
+         * @return this builder
+         */
+        public ConfigBuilder withIdleSessionEvictionTimeout( long timeout )
+        {
+            this.idleTimeBeforeConnectionEviction = timeout;
+            return this;
+        }
+
+        /**
+         * Open this many connections to each known server, in parallel and in the
+         * background, as soon as the driver is created, so that the first sessions
+         * do not pay for establishing connections. With a routing driver this covers
+         * all read, write and routing servers, including members discovered later on.
+         *
+         * The number of warmed up connections is limited by the
+         * {@link #withMaxIdleSessions(int) max number of idle sessions}.
+         * Use {@link Driver#warmUp()} to wait for the warm-up to finish.
+         *
+         * @param connectionsPerServer the number of connections to open per server, zero disables warm-up
+         * @return this builder
+         */
+        public ConfigBuilder withConnectionWarmUp( int connectionsPerServer )
+        {
+            if ( connectionsPerServer < 0 )
+            {
+                throw new IllegalArgumentException( "The number of connections to warm up must not be negative, got " +
+                                                    connectionsPerServer );
+            }
+            this.warmUpConnectionsPerServer = connectionsPerServer;
+            return this;
+        }
+
         /**
          * Pooled sessions that have been unused for longer than this timeout
-         * will be tested before they are used again, to ensure they are still live.
+         * will be tested in the background, to ensure they are still live when
+         * they are used again.
          *
-         * If this option is set too low, an additional network call will be
-         * incurred when acquiring a session, which causes a performance hit.
+         * If this option is set too low, idle sessions are tested often, which
+         * causes unnecessary network traffic.
          *
          * If this is set high, you may receive sessions that are no longer live,
          * which will lead to exceptions in your application. Assuming the
@@ -217,7 +483,8 @@ public class Config
          * Hence, this parameter tunes a balance between the likelihood of your
          * application seeing connection problems, and performance.
          *
-         * You normally should not need to tune this parameter.
+         * You normally should not need to tune this parameter. By default sessions
+         * that have been unused for longer than 30 seconds are tested.
          *
          * @param timeout minimum idle time in milliseconds
          * @return this builder
@@ -228,6 +495,211 @@ public class Config
             return this;
         }
 
+        /**
+         * The max number of connections to each server that can be in use at the same time,
+         * both by sessions and by the pool. This puts a hard limit on the load the driver
+         * can put on a single database instance.
+         *
+         * If the driver is asked to provide more sessions than this, it will
+         * block waiting for another session to be closed, up to the
+         * {@link #withConnectionAcquisitionTimeout(long) connection acquisition timeout}.
+         * Waiting callers are served in the order they arrived.
+         *
+         * @param size the max number of connections in use per server
+         * @return this builder
+         */
+        public ConfigBuilder withMaxConnectionPoolSize( int size )
+        {
+            if ( size <= 0 )
+            {
+                throw new IllegalArgumentException( "The max connection pool size must be positive, got " + size );
+            }
+            this.maxConnectionPoolSize = size;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for a connection when all connections to a server are
+         * in use, see {@link #withMaxConnectionPoolSize(int)}. If no connection becomes
+         * available within this time, acquiring the session fails with a
+         * {@link org.neo4j.driver.v1.exceptions.ClientException}.
+         *
+         * @param timeout acquisition timeout in milliseconds
+         * @return this builder
+         */
+        public ConfigBuilder withConnectionAcquisitionTimeout( long timeout )
+        {
+            if ( timeout < 0 )
+            {
+                throw new IllegalArgumentException( "The connection acquisition timeout must not be negative, got " +
+                                                    timeout );
+            }
+            this.connectionAcquisitionTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Limit the number of records of a single result that the driver holds in memory before they are
+         * consumed.
+         *
+         * Records are normally read from the network as they are consumed. However, when several statements
+         * are run in the same session, for instance within a transaction, consuming a later result, or closing
+         * the session or transaction, requires reading all outstanding records of the earlier results first,
+         * and those records are kept in memory until they are consumed.
+         *
+         * Once a result exceeds this limit, its remaining records are dropped and reading its records fails with
+         * a {@link org.neo4j.driver.v1.exceptions.ClientException}, rather than the application running out of
+         * memory. {@link StatementResult#consume()} still returns the summary of such a result. Results that are
+         * consumed before the next statement of the session or transaction is run are never affected.
+         *
+         * By default there is no limit, see {@link #NO_RECORD_BUFFER_LIMIT}.
+         *
+         * @param size the max number of buffered records per result
+         * @return this builder
+         */
+        public ConfigBuilder withMaxBufferedRecords( int size )
+        {
+            if ( size <= 0 )
+            {
+                throw new IllegalArgumentException( "The max number of buffered records must be positive, got " +
+                                                    size );
+            }
+            this.maxBufferedRecordsPerResult = size;
+            return this;
+        }
+
+        /**
+         * Set the bounds of the buffer each connection reads data from the network into.
+         *
+         * Connections start out with a buffer of the min size. While reads keep filling the buffer,
+         * as when receiving large results, it is doubled in size up to the max size, so that fewer
+         * reads are needed per megabyte received. When reads get small again, the buffer shrinks back.
+         *
+         * Raise the max size for applications exporting large amounts of data. Setting both sizes to
+         * the same value disables adapting the buffer size.
+         *
+         * @param minSize the initial, and smallest, buffer size in bytes
+         * @param maxSize the largest buffer size in bytes
+         * @return this builder
+         */
+        public ConfigBuilder withReadBufferSize( int minSize, int maxSize )
+        {
+            if ( minSize <= 0 || maxSize < minSize )
+            {
+                throw new IllegalArgumentException( "The read buffer sizes must be positive, with the max size not " +
+                                                    "smaller than the min size, got " + minSize + " and " + maxSize );
+            }
+            this.minReadBufferSize = minSize;
+            this.maxReadBufferSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Enable or disable message coalescing.
+         *
+         * By default, the messages a statement results in are sent to the server as soon as the statement is run.
+         * With message coalescing enabled, they are instead held back until the driver has to wait for a reply,
+         * for instance when records of a result are read or a transaction is committed. Messages of several
+         * statements run in a row are then sent together, in as few network packets as possible, at the cost of
+         * the server starting work on each statement a bit later.
+         *
+         * Resetting a session, which cancels the statement running in it, is always sent right away.
+         *
+         * @param enabled true to hold back messages until a reply is needed
+         * @return this builder
+         */
+        public ConfigBuilder withMessageCoalescing( boolean enabled )
+        {
+            this.messageCoalescing = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable TCP_NODELAY on the sockets of connections.
+         *
+         * With TCP_NODELAY, Nagle's algorithm is disabled, and the small messages most statements result in
+         * are sent right away, instead of being delayed while earlier data is not yet acknowledged by the server.
+         *
+         * By default TCP_NODELAY is enabled.
+         *
+         * @param enabled true to disable Nagle's algorithm
+         * @return this builder
+         */
+        public ConfigBuilder withTcpNoDelay( boolean enabled )
+        {
+            this.tcpNoDelay = enabled;
+            return this;
+        }
+
+        /**
+         * Set the sizes of the send and receive buffers of the sockets of connections, SO_SNDBUF and SO_RCVBUF.
+         *
+         * Larger buffers allow more data in flight, which helps throughput of large results over links with
+         * high latency. The operating system may adjust the sizes. By default the operating system defaults are
+         * used.
+         *
+         * @param sendBufferSize the socket send buffer size in bytes
+         * @param receiveBufferSize the socket receive buffer size in bytes
+         * @return this builder
+         */
+        public ConfigBuilder withSocketBufferSizes( int sendBufferSize, int receiveBufferSize )
+        {
+            if ( sendBufferSize <= 0 || receiveBufferSize <= 0 )
+            {
+                throw new IllegalArgumentException( "The socket buffer sizes must be positive, got " +
+                                                    sendBufferSize + " and " + receiveBufferSize );
+            }
+            this.socketSendBufferSize = sendBufferSize;
+            this.socketReceiveBufferSize = receiveBufferSize;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for a connection to a server to be established. If the connection cannot be
+         * established within this time, acquiring the session fails with a
+         * {@link org.neo4j.driver.v1.exceptions.ConnectionFailureException}.
+         *
+         * By default the timeout is 5 seconds.
+         *
+         * @param timeout connection timeout in milliseconds, zero for no timeout
+         * @return this builder
+         */
+        public ConfigBuilder withConnectionTimeout( long timeout )
+        {
+            this.connectionTimeout = socketTimeout( "connection", timeout );
+            return this;
+        }
+
+        /**
+         * The maximum time a single read from the network waits for data from the server. If the server does
+         * not send anything within this time, the operation fails with a
+         * {@link org.neo4j.driver.v1.exceptions.ClientException} and the connection is closed.
+         *
+         * This protects applications from hanging on servers or networks that stopped responding. Note that it
+         * also limits how long a statement may run on the server before it produces its first record, so set it
+         * well above the duration of the slowest statement.
+         *
+         * By default there is no timeout.
+         *
+         * @param timeout read timeout in milliseconds, zero for no timeout
+         * @return this builder
+         */
+        public ConfigBuilder withReadTimeout( long timeout )
+        {
+            this.readTimeout = socketTimeout( "read", timeout );
+            return this;
+        }
+
+        private static long socketTimeout( String name, long timeout )
+        {
+            if ( timeout < 0 || timeout > Integer.MAX_VALUE )
+            {
+                throw new IllegalArgumentException( "The " + name + " timeout must be between 0 and " +
+                                                    Integer.MAX_VALUE + " milliseconds, got " + timeout );
+            }
+            return timeout;
+        }
+
         /**
          * Configure the {@link EncryptionLevel} to use, use this to control wether the driver uses TLS encryption or not.
          * @param level the TLS level to use
@@ -259,12 +731,48 @@ public class Config
             return this;
         }
 
+        /**
+         * Use the TLS implementation of the given security provider for encrypted connections, instead of the
+         * highest priority provider of the JVM, which usually is the JDK's own SunJSSE.
+         *
+         * Providers backed by native libraries, such as Conscrypt, can deliver considerably higher throughput for
+         * encrypted traffic. The provider has to be registered, for instance with
+         * {@link java.security.Security#addProvider(java.security.Provider)}, before this method is called.
+         *
+         * @param providerName the name of the security provider, as in {@link java.security.Provider#getName()},
+         * or null to use the highest priority provider again, which is the default
+         * @return this builder
+         */
+        public ConfigBuilder withSslProvider( String providerName )
+        {
+            if ( providerName != null && Security.getProvider( providerName ) == null )
+            {
+                throw new IllegalArgumentException( "No security provider named '" + providerName +
+                                                    "' is registered" );
+            }
+            this.sslProvider = providerName;
+            return this;
+        }
+
         /**
          * Create a config instance from this builder.
          * @return a {@link Config} instance
+         * @throws IllegalArgumentException if the configured pool sizes contradict each other
          */
         public Config toConfig()
         {
+            if ( minIdleConnectionPoolSize > maxIdleConnectionPoolSize )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The min number of idle sessions must not exceed the max number of idle sessions of %d, " +
+                        "got %d", maxIdleConnectionPoolSize, minIdleConnectionPoolSize ) );
+            }
+            if ( minIdleConnectionPoolSize > maxConnectionPoolSize )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The min number of idle sessions must not exceed the max connection pool size of %d, got %d",
+                        maxConnectionPoolSize, minIdleConnectionPoolSize ) );
+            }
             return new Config( this );
         }
     }
@@ -363,6 +871,10 @@ public class Config
          * Known Neo4j hosts are recorded in a file, {@code certFile}.
          * Each time we reconnect to a known host, we verify that its certificate remains the same, guarding against attackers intercepting our communication.
          * <p>
+         * Drivers in several processes can share the file. They take turns writing it by locking a file next to it,
+         * named like the known hosts file with a {@code .lock} suffix, which is left in place afterwards. The first
+         * certificate written to the file for a host wins, connecting with another one fails.
+         * <p>
          * Note that this approach is vulnerable to man-in-the-middle attacks the very first time you connect to a new Neo4j instance.
          * If you do not trust the network you are connecting over, consider using {@link #trustCustomCertificateSignedBy(File)}  signed certificates} instead, or manually adding the
          * trusted host line into the specified file.
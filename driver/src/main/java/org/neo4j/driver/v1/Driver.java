@@ -20,6 +20,7 @@
 package org.neo4j.driver.v1;
 
 import java.net.URI;
+import java.util.concurrent.Future;
 
 /**
  * A Neo4j database driver, through which you can create {@link Session sessions} to run statements against the database.
@@ -88,6 +89,18 @@ public interface Driver extends AutoCloseable
 
     Session session(AccessMode mode);
 
+    /**
+     * Track the connection warm-up requested through {@link Config.ConfigBuilder#withConnectionWarmUp(int)}.
+     * <p>
+     * The warm-up starts when the driver is created and opens connections to all known servers in the background.
+     * Applications that want to avoid the connection setup cost on their first requests can wait on the returned
+     * future before taking traffic. The future fails if any of the connections could not be established. If no
+     * warm-up was requested, the returned future is already completed.
+     *
+     * @return a future that completes once the initial warm-up has finished
+     */
+    Future<Void> warmUp();
+
     /**
      * Close all the resources assigned to this driver
      */
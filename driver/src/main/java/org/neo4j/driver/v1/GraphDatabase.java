@@ -27,6 +27,7 @@ import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.DirectDriver;
 import org.neo4j.driver.internal.NetworkSession;
 import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.net.SocketSettings;
 import org.neo4j.driver.internal.net.pooling.PoolSettings;
 import org.neo4j.driver.internal.net.pooling.SocketConnectionPool;
 import org.neo4j.driver.internal.security.SecurityPlan;
@@ -156,16 +157,21 @@ public class GraphDatabase
         String scheme = uri.getScheme();
         BoltServerAddress address = BoltServerAddress.from( uri );
 
-        // Collate session parameters
-        ConnectionSettings connectionSettings =
-                new ConnectionSettings( authToken == null ? AuthTokens.none() : authToken );
-
         // Make sure we have some configuration to play with
         if ( config == null )
         {
             config = Config.defaultConfig();
         }
 
+        // Collate session parameters
+        ConnectionSettings connectionSettings =
+                new ConnectionSettings( authToken == null ? AuthTokens.none() : authToken,
+                        ConnectionSettings.DEFAULT_USER_AGENT, config.minReadBufferSize(), config.maxReadBufferSize(),
+                        config.messageCoalescingEnabled(),
+                        new SocketSettings( config.tcpNoDelay(), config.socketSendBufferSize(),
+                                config.socketReceiveBufferSize(), (int) config.connectionTimeout(),
+                                (int) config.readTimeout() ) );
+
         // Construct security plan
         SecurityPlan securityPlan;
         try
@@ -180,7 +186,12 @@ public class GraphDatabase
         // Establish pool settings
         PoolSettings poolSettings = new PoolSettings(
                 config.maxIdleConnectionPoolSize(),
-                config.idleTimeBeforeConnectionTest() );
+                config.idleTimeBeforeConnectionTest(),
+                config.maxConnectionPoolSize(),
+                config.connectionAcquisitionTimeout(),
+                config.minIdleConnectionPoolSize(),
+                config.idleTimeBeforeConnectionEviction(),
+                PoolSettings.DEFAULT_MAINTENANCE_INTERVAL );
 
         // And finally, construct the driver proper
         ConnectionPool connectionPool =
@@ -188,9 +199,9 @@ public class GraphDatabase
         switch ( scheme.toLowerCase() )
         {
         case "bolt":
-            return new DirectDriver( address, connectionPool, securityPlan, config.logging() );
+            return new DirectDriver( address, connectionPool, securityPlan, config );
         case "bolt+routing":
-            return new ClusterDriver( address, connectionPool, securityPlan, SESSION_PROVIDER, Clock.SYSTEM, config.logging() );
+            return new ClusterDriver( address, connectionPool, securityPlan, SESSION_PROVIDER, Clock.SYSTEM, config );
         default:
             throw new ClientException( format( "Unsupported URI scheme: %s", scheme ) );
         }
@@ -219,10 +230,10 @@ public class GraphDatabase
                         "of the driver. Please switch to use `TRUST_CUSTOM_CA_SIGNED_CERTIFICATES` instead." );
                 //intentional fallthrough
             case TRUST_CUSTOM_CA_SIGNED_CERTIFICATES:
-                return SecurityPlan.forSignedCertificates( config.trustStrategy().certFile() );
+                return SecurityPlan.forSignedCertificates( config.trustStrategy().certFile(), config.sslProvider() );
             case TRUST_ON_FIRST_USE:
                 return SecurityPlan.forTrustOnFirstUse( config.trustStrategy().certFile(),
-                        address, logger );
+                        address, logger, config.sslProvider() );
             default:
                 throw new ClientException(
                         "Unknown TLS authentication strategy: " + config.trustStrategy().strategy().name() );
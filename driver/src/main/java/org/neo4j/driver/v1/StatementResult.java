@@ -23,8 +23,10 @@ import java.util.List;
 
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
 import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Experimental;
 import org.neo4j.driver.v1.util.Function;
 import org.neo4j.driver.v1.util.Resource;
+import org.neo4j.driver.v1.util.Subscriber;
 
 
 /**
@@ -142,4 +144,19 @@ public interface StatementResult extends Iterator<Record>
      * @return a summary for the whole query result
      */
     ResultSummary consume();
+
+    /**
+     * Stream the remaining records to the given subscriber, at the pace it asks for them.
+     *
+     * Records are only read from the network as the subscriber requests them through
+     * {@link org.neo4j.driver.v1.util.Subscription#request(long)}, so a slow subscriber holds back
+     * the driver, rather than making it keep the rest of the result in memory. Records are delivered
+     * on the thread that requests them. Cancelling the subscription discards the rest of the result.
+     *
+     * A result can only be subscribed to once, and should not be used in any other way afterwards.
+     *
+     * @param subscriber the subscriber to deliver records to
+     */
+    @Experimental
+    void subscribe( Subscriber<Record> subscriber );
 }
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.v1;
 
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.driver.v1.util.Experimental;
@@ -162,6 +163,48 @@ public interface StatementRunner
      */
     StatementResult run( Statement statement );
 
+    /**
+     * Run a batch of statements and return one result stream per statement.
+     *
+     * Statements are queued and sent to the server together, rather than with one round
+     * trip per statement as with {@link #run(Statement)}. This
+     * greatly improves throughput when running many small statements, for instance
+     * when loading data.
+     *
+     * The returned results are in the same order as the given statements and are
+     * retrieved lazily, exactly like the results of {@link #run(Statement)}.
+     *
+     * The server stops reading statements while the responses to earlier ones
+     * have not been read. So that client and server never wait for each other,
+     * a large batch is sent in slices of at most a hundred statements or a few
+     * tens of kilobytes, and before the next slice is sent, all responses to
+     * the previous one are received and the records of its results are held
+     * in memory until they are consumed.
+     *
+     * Failing statements are reported by the first operation that reads past
+     * the response to the failed statement. That is this method itself, when
+     * the failed statement is followed by another slice of the batch, or else
+     * consuming its own result, consuming any later result of the batch, or
+     * closing the session or transaction. The statements following the failed
+     * one in the batch are not executed.
+     *
+     * <h2>Example</h2>
+     * <pre>
+     * {@code
+     * List<Statement> statements = new ArrayList<Statement>();
+     * for ( String name : names )
+     * {
+     *     statements.add( new Statement( "CREATE (n {name: {name}})", Values.parameters( "name", name ) ) );
+     * }
+     * List<StatementResult> results = session.runBatch( statements );
+     * }
+     * </pre>
+     *
+     * @param statements the Neo4j statements to run, in order
+     * @return a list of result streams, one for each statement
+     */
+    List<StatementResult> runBatch( List<Statement> statements );
+
     /**
      * @return type system used by this statement runner for classifying values
      */
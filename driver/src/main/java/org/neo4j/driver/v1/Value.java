@@ -259,6 +259,43 @@ public interface Value extends MapAccessor, MapAccessorWithDefaultValue
      */
     <T> List<T> asList( Function<Value, T> mapFunction );
 
+    /**
+     * If the underlying type is a byte array, returns it as a Java byte array.
+     * The array may be shared with this value, and must not be modified.
+     *
+     * @return the value as a Java byte array, if possible
+     * @throws Uncoercible if value types are incompatible.
+     */
+    byte[] asByteArray();
+
+    /**
+     * If the underlying type is a list of integers, returns its elements as a Java long array.
+     * The array may be shared with this value, and must not be modified.
+     *
+     * @return the value as a Java long array, if possible
+     * @throws Uncoercible if value types are incompatible.
+     */
+    long[] asLongArray();
+
+    /**
+     * If the underlying type is a list of floats, returns its elements as a Java double array.
+     * The array may be shared with this value, and must not be modified.
+     *
+     * @return the value as a Java double array, if possible
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible.
+     */
+    double[] asDoubleArray();
+
+    /**
+     * If the underlying type is a list of booleans, returns its elements as a Java boolean array.
+     * The array may be shared with this value, and must not be modified.
+     *
+     * @return the value as a Java boolean array, if possible
+     * @throws Uncoercible if value types are incompatible.
+     */
+    boolean[] asBooleanArray();
+
     /**
      * @return the value as a {@link Entity}, if possible.
      * @throws Uncoercible if value types are incompatible.
@@ -28,10 +28,14 @@ import java.util.List;
 import java.util.Map;
 
 import org.neo4j.driver.internal.AsValue;
+import org.neo4j.driver.internal.value.BooleanListValue;
 import org.neo4j.driver.internal.value.BooleanValue;
+import org.neo4j.driver.internal.value.BytesValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.FloatValue;
 import org.neo4j.driver.internal.value.IntegerValue;
 import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.internal.value.StringValue;
@@ -84,6 +88,7 @@ public abstract class Values
         if ( value instanceof Iterable<?> ) { return value( (Iterable<Object>) value ); }
         if ( value instanceof Iterator<?> ) { return value( (Iterator<Object>) value ); }
 
+        if ( value instanceof byte[] ) { return value( (byte[]) value ); }
         if ( value instanceof boolean[] ) { return value( (boolean[]) value ); }
         if ( value instanceof String[] ) { return value( (String[]) value ); }
         if ( value instanceof long[] ) { return value( (long[]) value ); }
@@ -124,53 +129,43 @@ public abstract class Values
         return new ListValue( values );
     }
 
+    public static Value value( byte... input )
+    {
+        return new BytesValue( input.clone() );
+    }
+
     public static Value value( boolean... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new BooleanListValue( input.clone() );
     }
     public static Value value( long... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new LongListValue( input.clone() );
     }
 
     public static Value value( int... input )
     {
-        Value[] values = new Value[input.length];
+        long[] values = new long[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new LongListValue( values );
     }
 
     public static Value value( double... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new DoubleListValue( input.clone() );
     }
 
     public static Value value( float... input )
     {
-        Value[] values = new Value[input.length];
+        double[] values = new double[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new DoubleListValue( values );
     }
 
     public static Value value( List<Object> vals )
@@ -35,6 +35,8 @@ public interface TypeSystem
 
     Type STRING();
 
+    Type BYTES();
+
     Type NUMBER();
 
     Type INTEGER();
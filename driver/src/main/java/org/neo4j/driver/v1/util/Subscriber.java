@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.util;
+
+/**
+ * Receives a stream of items at the pace it asks for them, through a {@link Subscription}.
+ * Same as {@code org.reactivestreams.Subscriber}, but defined here so the driver needs no extra dependency;
+ * adapting between the two is a matter of forwarding each call.
+ *
+ * @param <T> the type of items received
+ * @since 1.1
+ */
+public interface Subscriber<T>
+{
+    /**
+     * Called once, before any other method, with the subscription used to ask for items.
+     * No items are delivered until {@link Subscription#request(long)} is called.
+     *
+     * @param subscription the subscription for this subscriber
+     */
+    void onSubscribe( Subscription subscription );
+
+    /**
+     * Called with the next item, at most as many times as requested through the subscription.
+     *
+     * @param item the next item
+     */
+    void onNext( T item );
+
+    /**
+     * Called once if the stream fails, no other method is called afterwards.
+     *
+     * @param error the failure
+     */
+    void onError( Throwable error );
+
+    /**
+     * Called once when all items have been delivered, no other method is called afterwards.
+     */
+    void onComplete();
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.util;
+
+/**
+ * The link between a {@link Subscriber} and the stream it subscribed to, used to signal demand.
+ * Same as {@code org.reactivestreams.Subscription}, but defined here so the driver needs no extra dependency.
+ *
+ * @since 1.1
+ */
+public interface Subscription
+{
+    /**
+     * Ask for up to {@code n} more items. Demand adds up over calls, and no more items than asked for
+     * are ever delivered.
+     *
+     * @param n the number of additional items wanted, must be positive
+     */
+    void request( long n );
+
+    /**
+     * Stop receiving items. Items may still be delivered for a short while after this call.
+     */
+    void cancel();
+}
@@ -25,6 +25,7 @@ import org.junit.rules.ExpectedException;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +34,7 @@ import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.v1.AccessMode;
+import org.neo4j.driver.v1.Config;
 import org.neo4j.driver.v1.Logger;
 import org.neo4j.driver.v1.Logging;
 import org.neo4j.driver.v1.Record;
@@ -45,6 +47,7 @@ import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.util.BiFunction;
 import org.neo4j.driver.v1.util.Function;
+import org.neo4j.driver.v1.util.Subscriber;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -53,6 +56,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.core.IsNot.not;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -244,12 +248,59 @@ public class ClusterDriverTest
         assertThat( clusterDriver.writeServers(), containsInAnyOrder( boltAddress( "localhost", 3333 ) ) );
     }
 
+    @Test
+    public void shouldWarmUpAllDiscoveredServersOnInitialization()
+    {
+        // Given
+        final Session session = mock( Session.class );
+        when( session.run( GET_SERVERS ) ).thenReturn(
+                getServers( singletonList( "localhost:1111" ),
+                        singletonList( "localhost:2222" ),
+                        singletonList( "localhost:3333" ) ) );
+
+        // When
+        forSession( session, Clock.SYSTEM, 2 );
+
+        // Then
+        verify( pool ).warmUp( eq( new HashSet<>( asList( boltAddress( "localhost", 1111 ),
+                boltAddress( "localhost", 2222 ), boltAddress( "localhost", 3333 ) ) ) ), eq( 2 ) );
+    }
+
+    @Test
+    public void shouldWarmUpServersDiscoveredOnRerouting()
+    {
+        // Given
+        final Session session = mock( Session.class );
+        when( session.run( GET_SERVERS ) )
+                .thenReturn(
+                        getServers( singletonList( "localhost:1111" ), NO_ADDRESSES, NO_ADDRESSES ) )
+                .thenReturn(
+                        getServers( asList( "localhost:1111", "localhost:1112" ),
+                                singletonList( "localhost:2222" ),
+                                singletonList( "localhost:3333" ) ) );
+        ClusterDriver clusterDriver = forSession( session, Clock.SYSTEM, 2 );
+
+        // When
+        clusterDriver.session( AccessMode.READ );
+
+        // Then
+        verify( pool ).warmUp( eq( new HashSet<>( asList( boltAddress( "localhost", 1112 ),
+                boltAddress( "localhost", 2222 ), boltAddress( "localhost", 3333 ) ) ) ), eq( 2 ) );
+    }
+
     private ClusterDriver forSession( final Session session )
     {
         return forSession( session, Clock.SYSTEM );
     }
+
     private ClusterDriver forSession( final Session session, Clock clock )
     {
+        return forSession( session, clock, 0 );
+    }
+
+    private ClusterDriver forSession( final Session session, Clock clock, int warmUpConnections )
+    {
+        Config config = Config.build().withLogging( logging() ).withConnectionWarmUp( warmUpConnections ).toConfig();
         return new ClusterDriver( SEED, pool, insecure(),
                 new BiFunction<Connection,Logger,Session>()
                 {
@@ -258,7 +309,7 @@ public class ClusterDriverTest
                     {
                         return session;
                     }
-                }, clock, logging() );
+                }, clock, config );
     }
 
     private BoltServerAddress boltAddress( String host, int port )
@@ -333,6 +384,12 @@ public class ClusterDriverTest
                 return null;
             }
 
+            @Override
+            public void subscribe( Subscriber<Record> subscriber )
+            {
+                throw new UnsupportedOperationException();
+            }
+
             @Override
             public void remove()
             {
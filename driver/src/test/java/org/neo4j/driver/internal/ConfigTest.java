@@ -89,6 +89,156 @@ public class ConfigTest
         assertThat( config.idleTimeBeforeConnectionTest(), equalTo( 1337L ) );
     }
 
+    @Test
+    public void shouldConfigureMaxConnectionPoolSizeAndAcquisitionTimeout() throws Throwable
+    {
+        // when
+        Config config = Config.build()
+                .withMaxConnectionPoolSize( 42 )
+                .withConnectionAcquisitionTimeout( 4242 )
+                .toConfig();
+
+        // then
+        assertThat( config.maxConnectionPoolSize(), equalTo( 42 ) );
+        assertThat( config.connectionAcquisitionTimeout(), equalTo( 4242L ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowNonPositiveMaxConnectionPoolSize() throws Throwable
+    {
+        Config.build().withMaxConnectionPoolSize( 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowNegativeMinIdleSessions() throws Throwable
+    {
+        Config.build().withMinIdleSessions( -1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowMinIdleSessionsAboveMaxConnectionPoolSize() throws Throwable
+    {
+        Config.build().withMaxIdleSessions( 8 ).withMaxConnectionPoolSize( 5 ).withMinIdleSessions( 6 ).toConfig();
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowMaxConnectionPoolSizeBelowMinIdleSessions() throws Throwable
+    {
+        Config.build().withMaxIdleSessions( 8 ).withMinIdleSessions( 6 ).withMaxConnectionPoolSize( 5 ).toConfig();
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowNegativeConnectionWarmUp() throws Throwable
+    {
+        Config.build().withConnectionWarmUp( -1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowMinIdleSessionsAboveMaxIdleSessions() throws Throwable
+    {
+        Config.build().withMinIdleSessions( 6 ).withMaxIdleSessions( 5 ).toConfig();
+    }
+
+    @Test
+    public void shouldConfigurePoolSizesInAnyOrder() throws Throwable
+    {
+        // when
+        Config minFirst = Config.build()
+                .withMinIdleSessions( 150 ).withMaxIdleSessions( 200 ).withMaxConnectionPoolSize( 300 )
+                .toConfig();
+        Config maxFirst = Config.build()
+                .withMaxConnectionPoolSize( 300 ).withMaxIdleSessions( 200 ).withMinIdleSessions( 150 )
+                .toConfig();
+
+        // then
+        assertThat( minFirst.minIdleConnectionPoolSize(), equalTo( 150 ) );
+        assertThat( maxFirst.minIdleConnectionPoolSize(), equalTo( 150 ) );
+        assertThat( minFirst.maxConnectionPoolSize(), equalTo( 300 ) );
+        assertThat( maxFirst.maxConnectionPoolSize(), equalTo( 300 ) );
+    }
+
+    @Test
+    public void shouldConfigureMaxBufferedRecords() throws Throwable
+    {
+        // when
+        Config config = Config.build().withMaxBufferedRecords( 1000 ).toConfig();
+
+        // then
+        assertThat( config.maxBufferedRecordsPerResult(), equalTo( 1000 ) );
+        assertThat( Config.defaultConfig().maxBufferedRecordsPerResult(),
+                equalTo( Config.NO_RECORD_BUFFER_LIMIT ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowNonPositiveMaxBufferedRecords() throws Throwable
+    {
+        Config.build().withMaxBufferedRecords( 0 );
+    }
+
+    @Test
+    public void shouldConfigureSocketOptions() throws Throwable
+    {
+        // when
+        Config config = Config.build()
+                .withTcpNoDelay( false )
+                .withSocketBufferSizes( 1024, 2048 )
+                .withConnectionTimeout( 1000 )
+                .withReadTimeout( 30000 )
+                .toConfig();
+
+        // then
+        assertThat( config.tcpNoDelay(), equalTo( false ) );
+        assertThat( config.socketSendBufferSize(), equalTo( 1024 ) );
+        assertThat( config.socketReceiveBufferSize(), equalTo( 2048 ) );
+        assertThat( config.connectionTimeout(), equalTo( 1000L ) );
+        assertThat( config.readTimeout(), equalTo( 30000L ) );
+    }
+
+    @Test
+    public void shouldDefaultToNoDelayAndNoReadTimeout() throws Throwable
+    {
+        // when
+        Config config = Config.defaultConfig();
+
+        // then
+        assertThat( config.tcpNoDelay(), equalTo( true ) );
+        assertThat( config.connectionTimeout(), equalTo( 5000L ) );
+        assertThat( config.readTimeout(), equalTo( 0L ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowNegativeReadTimeout() throws Throwable
+    {
+        Config.build().withReadTimeout( -1 );
+    }
+
+    @Test
+    public void shouldConfigureSslProvider() throws Throwable
+    {
+        // when
+        Config config = Config.build().withSslProvider( "SunJSSE" ).toConfig();
+
+        // then
+        assertThat( config.sslProvider(), equalTo( "SunJSSE" ) );
+        assertThat( Config.defaultConfig().sslProvider(), equalTo( null ) );
+    }
+
+    @Test
+    public void shouldConfigureDefaultSslProviderWithNull() throws Throwable
+    {
+        // when
+        Config config = Config.build().withSslProvider( "SunJSSE" ).withSslProvider( null ).toConfig();
+
+        // then
+        assertThat( config.sslProvider(), equalTo( null ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void shouldNotAllowUnknownSslProvider() throws Throwable
+    {
+        Config.build().withSslProvider( "NoSuchProvider" );
+    }
+
     public static void deleteDefaultKnownCertFileIfExists()
     {
         if( DEFAULT_KNOWN_HOSTS.exists() )
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
@@ -25,9 +26,12 @@ import org.mockito.InOrder;
 
 import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.Value;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -111,4 +115,35 @@ public class ExplicitTransactionTest
         verify( cleanup ).run();
         verifyNoMoreInteractions( conn, cleanup );
     }
+
+    @Test
+    public void shouldPipelineBatchWithSingleFlush() throws Throwable
+    {
+        // Given
+        Connection conn = mock( Connection.class );
+        when( conn.isOpen() ).thenReturn( true );
+        Runnable cleanup = mock( Runnable.class );
+        ExplicitTransaction tx = new ExplicitTransaction( conn, cleanup );
+
+        // When
+        tx.runBatch( Arrays.asList( new Statement( "CREATE (a)" ), new Statement( "CREATE (b)" ) ) );
+        tx.success();
+        tx.close();
+
+        // Then
+        InOrder order = inOrder( conn );
+        order.verify( conn ).run( "BEGIN", Collections.<String, Value>emptyMap(), Collector.NO_OP );
+        order.verify( conn ).pullAll( any( BookmarkCollector.class ) );
+        order.verify( conn ).run( eq( "CREATE (a)" ), anyMap(), any( Collector.class ) );
+        order.verify( conn ).pullAll( any( Collector.class ) );
+        order.verify( conn ).run( eq( "CREATE (b)" ), anyMap(), any( Collector.class ) );
+        order.verify( conn ).pullAll( any( Collector.class ) );
+        order.verify( conn ).flush();
+        order.verify( conn ).isOpen();
+        order.verify( conn ).run( "COMMIT", Collections.<String, Value>emptyMap(), Collector.NO_OP );
+        order.verify( conn ).pullAll( any( BookmarkCollector.class ) );
+        order.verify( conn ).sync();
+        verify( cleanup ).run();
+        verifyNoMoreInteractions( conn, cleanup );
+    }
 }
@@ -22,6 +22,8 @@ package org.neo4j.driver.internal;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -35,12 +37,16 @@ import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
 import org.neo4j.driver.v1.util.Pair;
+import org.neo4j.driver.v1.util.Subscriber;
+import org.neo4j.driver.v1.util.Subscription;
 
 import static java.util.Arrays.asList;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -50,6 +56,8 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import static org.neo4j.driver.v1.Records.column;
 import static org.neo4j.driver.v1.Values.ofString;
@@ -386,9 +394,190 @@ public class InternalStatementResultTest
         Record future = result.peek();
     }
 
-    private StatementResult createResult( int numberOfRecords )
+    @Test
+    public void shouldOnlyReadRequestedRecordsForSubscriber()
+    {
+        // GIVEN
+        Connection connection = mock( Connection.class );
+        StatementResult result = createResult( 5, connection );
+        RecordingSubscriber subscriber = new RecordingSubscriber( 0 );
+        result.subscribe( subscriber );
+
+        // WHEN
+        subscriber.subscription.request( 2 );
+
+        // THEN the stream head and the two requested records have been read, nothing more
+        assertThat( subscriber.records, hasSize( 2 ) );
+        assertFalse( subscriber.completed );
+        verify( connection, times( 3 ) ).receiveOne();
+
+        // WHEN
+        subscriber.subscription.request( 10 );
+
+        // THEN
+        assertThat( subscriber.records, hasSize( 5 ) );
+        assertThat( values( subscriber.records.get( 4 ) ), equalTo( asList( value( "v1-5" ), value( "v2-5" ) ) ) );
+        assertTrue( subscriber.completed );
+    }
+
+    @Test
+    public void shouldAllowSubscriberToRequestFromOnNext()
+    {
+        // GIVEN
+        StatementResult result = createResult( 3 );
+        RecordingSubscriber subscriber = new RecordingSubscriber( 1 );
+        result.subscribe( subscriber );
+
+        // WHEN
+        subscriber.subscription.request( 1 );
+
+        // THEN
+        assertThat( subscriber.records, hasSize( 3 ) );
+        assertTrue( subscriber.completed );
+        assertNull( subscriber.error );
+    }
+
+    @Test
+    public void shouldSignalErrorWhenSubscriberRequestsNonPositiveNumberOfRecords()
+    {
+        // GIVEN
+        StatementResult result = createResult( 3 );
+        RecordingSubscriber subscriber = new RecordingSubscriber( 0 );
+        result.subscribe( subscriber );
+
+        // WHEN
+        subscriber.subscription.request( 0 );
+
+        // THEN
+        assertThat( subscriber.error, instanceOf( IllegalArgumentException.class ) );
+        assertThat( subscriber.records, hasSize( 0 ) );
+        assertFalse( subscriber.completed );
+    }
+
+    @Test
+    public void shouldDiscardRemainingRecordsWhenSubscriptionIsCancelled()
+    {
+        // GIVEN
+        Connection connection = mock( Connection.class );
+        StatementResult result = createResult( 5, connection );
+        RecordingSubscriber subscriber = new RecordingSubscriber( 0 );
+        result.subscribe( subscriber );
+        subscriber.subscription.request( 1 );
+
+        // WHEN
+        subscriber.subscription.cancel();
+        subscriber.subscription.request( 1 );
+
+        // THEN the whole stream has been read, but only the requested record delivered
+        verify( connection, times( 7 ) ).receiveOne();
+        assertThat( subscriber.records, hasSize( 1 ) );
+        assertFalse( subscriber.completed );
+    }
+
+    @Test
+    public void shouldStopDeliveryWhenSubscriptionIsCancelledFromAnotherThread() throws Exception
     {
+        // GIVEN a subscriber that blocks on its first record
         Connection connection = mock( Connection.class );
+        StatementResult result = createResult( 5, connection );
+        final CountDownLatch firstRecordReceived = new CountDownLatch( 1 );
+        final CountDownLatch cancelDone = new CountDownLatch( 1 );
+        final RecordingSubscriber subscriber = new RecordingSubscriber( 0 )
+        {
+            @Override
+            public void onNext( Record record )
+            {
+                super.onNext( record );
+                firstRecordReceived.countDown();
+                awaitUninterruptibly( cancelDone );
+            }
+        };
+        result.subscribe( subscriber );
+        Thread consumer = new Thread( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                subscriber.subscription.request( Long.MAX_VALUE );
+            }
+        } );
+        consumer.start();
+        assertTrue( firstRecordReceived.await( 10, TimeUnit.SECONDS ) );
+
+        // WHEN cancelling while the delivery is still in onNext
+        subscriber.subscription.cancel();
+        cancelDone.countDown();
+        consumer.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        // THEN no further records are delivered, and the rest of the stream is discarded by the delivering thread
+        assertFalse( consumer.isAlive() );
+        verify( connection, times( 7 ) ).receiveOne();
+        assertThat( subscriber.records, hasSize( 1 ) );
+        assertFalse( subscriber.completed );
+    }
+
+    private static void awaitUninterruptibly( CountDownLatch latch )
+    {
+        try
+        {
+            latch.await();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void shouldKeepRecordsBufferedUpToTheLimit()
+    {
+        // GIVEN
+        InternalStatementResult result = new InternalStatementResult(
+                mock( Connection.class ), null, new Statement( "<unknown>" ), 3 );
+
+        // WHEN another statement on the connection reads past this result
+        receiveWholeStream( result, 3 );
+
+        // THEN
+        assertThat( result.list(), hasSize( 3 ) );
+    }
+
+    @Test
+    public void shouldFailWhenBufferedRecordsExceedTheLimit()
+    {
+        // GIVEN
+        InternalStatementResult result = new InternalStatementResult(
+                mock( Connection.class ), null, new Statement( "<unknown>" ), 3 );
+
+        // WHEN another statement on the connection reads past this result
+        receiveWholeStream( result, 4 );
+
+        // THEN the summary is still available
+        assertNotNull( result.consume() );
+
+        // AND the records are not
+        expectedException.expect( ClientException.class );
+        expectedException.expectMessage( "more than the maximum of 3 records" );
+        result.hasNext();
+    }
+
+    private void receiveWholeStream( InternalStatementResult cursor, int numberOfRecords )
+    {
+        streamHeadMessage( cursor ).run();
+        for ( int i = 1; i <= numberOfRecords; i++ )
+        {
+            recordMessage( cursor, i ).run();
+        }
+        streamTailMessage( cursor ).run();
+    }
+
+    private StatementResult createResult( int numberOfRecords )
+    {
+        return createResult( numberOfRecords, mock( Connection.class ) );
+    }
+
+    private StatementResult createResult( int numberOfRecords, Connection connection )
+    {
         String statement = "<unknown>";
 
         final InternalStatementResult cursor = new InternalStatementResult( connection, null, new Statement( statement ) );
@@ -463,4 +652,46 @@ public class InternalStatementResultTest
         }
         return result;
     }
+
+    private static class RecordingSubscriber implements Subscriber<Record>
+    {
+        private final int requestOnNext;
+        private final List<Record> records = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        RecordingSubscriber( int requestOnNext )
+        {
+            this.requestOnNext = requestOnNext;
+        }
+
+        @Override
+        public void onSubscribe( Subscription subscription )
+        {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext( Record record )
+        {
+            records.add( record );
+            if ( requestOnNext > 0 )
+            {
+                subscription.request( requestOnNext );
+            }
+        }
+
+        @Override
+        public void onError( Throwable error )
+        {
+            this.error = error;
+        }
+
+        @Override
+        public void onComplete()
+        {
+            completed = true;
+        }
+    }
 }
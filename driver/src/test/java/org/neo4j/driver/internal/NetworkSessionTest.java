@@ -18,23 +18,44 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.spi.Collector;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.exceptions.ClientException;
 
 import static junit.framework.Assert.fail;
 import static junit.framework.TestCase.assertNotNull;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.neo4j.driver.v1.Values.parameters;
 
 public class NetworkSessionTest
 {
@@ -58,6 +79,108 @@ public class NetworkSessionTest
         verify( mock ).flush();
     }
 
+    @Test
+    public void shouldSendAllStatementsOfBatchWithSingleFlush() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        List<Statement> statements = Arrays.asList(
+                new Statement( "CREATE (n {id: 1})" ),
+                new Statement( "CREATE (n {id: 2})" ),
+                new Statement( "CREATE (n {id: 3})" ) );
+
+        // When
+        List<StatementResult> results = sess.runBatch( statements );
+
+        // Then
+        assertThat( results.size(), equalTo( 3 ) );
+        InOrder order = inOrder( mock );
+        for ( Statement statement : statements )
+        {
+            order.verify( mock ).run( eq( statement.text() ), anyMap(), any( Collector.class ) );
+            order.verify( mock ).pullAll( any( Collector.class ) );
+        }
+        order.verify( mock ).flush();
+        verify( mock, times( 1 ) ).flush();
+    }
+
+    @Test
+    public void shouldReceiveResponsesBeforeBatchOutgrowsNetworkBuffers() throws Throwable
+    {
+        // Given a batch much bigger than the socket buffers of client and server
+        when( mock.isOpen() ).thenReturn( true );
+        final long[] bytesInFlight = {0, 0}; // current, max
+        doAnswer( new Answer()
+        {
+            @Override
+            public Object answer( InvocationOnMock invocation ) throws Throwable
+            {
+                String text = (String) invocation.getArguments()[0];
+                Map<?,?> parameters = (Map<?,?>) invocation.getArguments()[1];
+                bytesInFlight[0] += text.length() + parameters.get( "name" ).toString().length();
+                bytesInFlight[1] = Math.max( bytesInFlight[0], bytesInFlight[1] );
+                return null;
+            }
+        } ).when( mock ).run( anyString(), anyMap(), any( Collector.class ) );
+        doAnswer( new Answer()
+        {
+            @Override
+            public Object answer( InvocationOnMock invocation ) throws Throwable
+            {
+                bytesInFlight[0] = 0;
+                return null;
+            }
+        } ).when( mock ).sync();
+        char[] name = new char[1000];
+        Arrays.fill( name, 'x' );
+        List<Statement> statements = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            statements.add( new Statement( "CREATE (n {name: {name}})", parameters( "name", new String( name ) ) ) );
+        }
+
+        // When
+        List<StatementResult> results = sess.runBatch( statements );
+
+        // Then the responses were received whenever the statements sent meanwhile would have filled the buffers
+        assertThat( results.size(), equalTo( 1000 ) );
+        assertThat( bytesInFlight[1], lessThanOrEqualTo( (long) StatementPipeline.MAX_BYTES_IN_FLIGHT ) );
+        verify( mock, atLeast( 1000 * 1000 / StatementPipeline.MAX_BYTES_IN_FLIGHT ) ).sync();
+    }
+
+    @Test
+    public void shouldReceiveResponsesAfterMaxNumberOfStatementsOfBatch() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        List<Statement> statements = new ArrayList<>();
+        for ( int i = 0; i < 1000; i++ )
+        {
+            statements.add( new Statement( "RETURN 1" ) );
+        }
+
+        // When
+        sess.runBatch( statements );
+
+        // Then the responses of every full slice but the last one were received before the next slice was sent
+        verify( mock, times( 1000 / StatementPipeline.MAX_STATEMENTS_IN_FLIGHT - 1 ) ).sync();
+        verify( mock, times( 1 ) ).flush();
+    }
+
+    @Test
+    public void shouldNotAllowBatchWhileOngoingTransaction() throws Throwable
+    {
+        // Given
+        when( mock.isOpen() ).thenReturn( true );
+        sess.beginTransaction();
+
+        // Expect
+        exception.expect( ClientException.class );
+
+        // When
+        sess.runBatch( Arrays.asList( new Statement( "whatever" ) ) );
+    }
+
     @Test
     public void shouldNotAllowNewTxWhileOneIsRunning() throws Throwable
     {
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.messaging;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -28,6 +29,7 @@ import java.io.IOException;
 import java.nio.channels.Channels;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.neo4j.driver.internal.InternalNode;
@@ -36,13 +38,22 @@ import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.net.ChunkedOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.BytePrinter;
+import org.neo4j.driver.internal.value.BooleanListValue;
+import org.neo4j.driver.internal.value.DoubleListValue;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.util.DumpMessage;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.v1.Values.EmptyMap;
 import static org.neo4j.driver.v1.Values.ofValue;
 import static org.neo4j.driver.v1.Values.parameters;
@@ -81,6 +92,7 @@ public class MessageFormatTest
         assertSerializesValue( value( parameters( "cat", null, "dog", null ) ) );
         assertSerializesValue( value( parameters( "k", 12, "a", "banana" ) ) );
         assertSerializesValue( value( asList( "k", 12, "a", "banana" ) ) );
+        assertSerializesValue( value( new byte[]{1, 2, -1} ) );
         assertSerializesValue( value(
                 new InternalNode( 1, Collections.singletonList( "User" ), parameters( "name", "Bob", "age", 45 ).asMap(
                         ofValue()) )
@@ -103,6 +115,24 @@ public class MessageFormatTest
         assertSerializesValue( value( new InternalPath( new InternalNode( 1 ) ) ) );
     }
 
+    @Test
+    public void shouldUnpackHomogeneousListsIntoPrimitiveArrays() throws Throwable
+    {
+        Value longs = serializeAndUnpack( value( asList( 1L, 2L, 3L ) ) );
+        Value doubles = serializeAndUnpack( value( asList( 1.5, -2.0 ) ) );
+        Value booleans = serializeAndUnpack( value( asList( true, false ) ) );
+        Value mixed = serializeAndUnpack( value( asList( 1L, 2L, 2.5, true ) ) );
+
+        assertThat( longs, instanceOf( LongListValue.class ) );
+        assertArrayEquals( new long[]{1L, 2L, 3L}, longs.asLongArray() );
+        assertThat( doubles, instanceOf( DoubleListValue.class ) );
+        assertArrayEquals( new double[]{1.5, -2.0}, doubles.asDoubleArray(), 0 );
+        assertThat( booleans, instanceOf( BooleanListValue.class ) );
+        assertTrue( Arrays.equals( new boolean[]{true, false}, booleans.asBooleanArray() ) );
+        assertThat( mixed, instanceOf( ListValue.class ) );
+        assertThat( mixed, equalTo( value( asList( 1L, 2L, 2.5, true ) ) ) );
+    }
+
     @Test
     public void shouldGiveHelpfulErrorOnMalformedNodeStruct() throws Throwable
     {
@@ -131,6 +161,21 @@ public class MessageFormatTest
         assertSerializes( new RecordMessage( new Value[]{value} ) );
     }
 
+    private Value serializeAndUnpack( Value value ) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream( 128 );
+        MessageFormat.Writer writer = format.newWriter( Channels.newChannel( out ) );
+        writer.write( new RecordMessage( new Value[]{value} ) );
+        writer.flush();
+
+        MessageHandler handler = mock( MessageHandler.class );
+        format.newReader( Channels.newChannel( new ByteArrayInputStream( out.toByteArray() ) ) ).read( handler );
+
+        ArgumentCaptor<Value[]> fields = ArgumentCaptor.forClass( Value[].class );
+        verify( handler ).handleRecordMessage( fields.capture() );
+        return fields.getValue()[0];
+    }
+
     private void assertSerializes( Message... messages ) throws IOException
     {
         // Pack
@@ -28,15 +28,21 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.driver.v1.exceptions.ConnectionFailureException;
 import org.neo4j.driver.v1.util.RecordingByteChannel;
 
+import static java.util.Arrays.asList;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -308,6 +314,78 @@ public class BufferingChunkedInputTest
         assertEquals( Double.MIN_VALUE, in.readDouble(), 0d );
     }
 
+    @Test
+    public void shouldReadNumbersSpanningChunkAndPacketBoundaries() throws IOException
+    {
+        // Given
+        BufferingChunkedInput input = new BufferingChunkedInput( packets(
+                packet( 0, 4, 1, 2, 0, 0, 0, 6, 0, 42, 0, 0 ),
+                packet( 0, 0, 0, 5, 0, 0, 0, 5, 9, 0, 0 ) ) );
+
+        // When
+        short inFirstChunk = input.readShort();
+        int acrossChunks = input.readInt();
+        long acrossChunksAndPackets = input.readLong();
+        byte inLastChunk = input.readByte();
+
+        // Then
+        assertThat( inFirstChunk, equalTo( (short) 258 ) );
+        assertThat( acrossChunks, equalTo( 42 ) );
+        assertThat( acrossChunksAndPackets, equalTo( 5L ) );
+        assertThat( inLastChunk, equalTo( (byte) 9 ) );
+        assertFalse( input.hasMoreData() );
+    }
+
+    @Test
+    public void shouldGrowBufferWhileReadsFillItAndShrinkWhenReadsGetSmall() throws IOException
+    {
+        // Given a single chunk of 200 bytes, delivered in reads of varying size
+        byte[] message = new byte[204];
+        message[1] = (byte) 200;
+        Arrays.fill( message, 2, 202, (byte) 1 );
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                channelReturning( message, 16, 32, 64, 5, 5, 32, 32, 32 ), 16, 64 );
+
+        // When
+        List<Integer> capacities = new ArrayList<>();
+        for ( int i = 0; i < 200; i++ )
+        {
+            assertThat( input.readByte(), equalTo( (byte) 1 ) );
+            int capacity = input.bufferCapacity();
+            if ( capacities.isEmpty() || capacities.get( capacities.size() - 1 ) != capacity )
+            {
+                capacities.add( capacity );
+            }
+        }
+
+        // Then
+        assertThat( capacities, equalTo( asList( 16, 32, 64, 32, 64 ) ) );
+    }
+
+    @Test
+    public void shouldReturnBufferToPoolOnceMessageIsReadAndNoDataIsLeft() throws IOException
+    {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool();
+        BufferingChunkedInput input = new BufferingChunkedInput(
+                packets( packet( 0, 1, 13, 0, 0, 0, 1, 37 ), packet( 0, 0 ) ), 16, 16, pool );
+
+        // When the first message is read, with part of the next one in the buffer
+        assertThat( input.readByte(), equalTo( (byte) 13 ) );
+        input.messageBoundaryHook().run();
+
+        // Then
+        assertTrue( input.holdsBuffer() );
+
+        // When the second message is read, leaving the buffer empty
+        assertThat( input.readByte(), equalTo( (byte) 37 ) );
+        input.messageBoundaryHook().run();
+
+        // Then
+        assertFalse( input.holdsBuffer() );
+        assertThat( pool.pooledBuffers( 16 ), equalTo( 1 ) );
+    }
+
     @Test
     public void shouldNotReadMessageEndingWhenByteLeftInBuffer() throws IOException
     {
@@ -515,6 +593,35 @@ public class BufferingChunkedInputTest
                 new ByteArrayInputStream( byteArray ) );
     }
 
+    private ReadableByteChannel channelReturning( final byte[] data, final int... readSizes )
+    {
+        return new ReadableByteChannel()
+        {
+            private int position = 0;
+            private int reads = 0;
+
+            @Override
+            public int read( ByteBuffer dst ) throws IOException
+            {
+                int size = Math.min( Math.min( dst.remaining(), readSizes[reads++] ), data.length - position );
+                dst.put( data, position, size );
+                position += size;
+                return size;
+            }
+
+            @Override
+            public boolean isOpen()
+            {
+                return true;
+            }
+
+            @Override
+            public void close() throws IOException
+            {
+            }
+        };
+    }
+
     private ReadableByteChannel packets( final ReadableByteChannel... channels )
     {
 
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ByteBufferPoolTest
+{
+    @Test
+    public void shouldReuseReleasedBuffersOfTheSameSize() throws Throwable
+    {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool();
+        ByteBuffer buffer = pool.acquire( 1024 );
+        buffer.putInt( 42 );
+
+        // When
+        pool.release( buffer );
+
+        // Then
+        ByteBuffer reused = pool.acquire( 1024 );
+        assertThat( reused, sameInstance( buffer ) );
+        assertThat( reused.position(), equalTo( 0 ) );
+        assertThat( reused.remaining(), equalTo( 1024 ) );
+        assertTrue( reused.isDirect() );
+        assertThat( pool.acquire( 2048 ).capacity(), equalTo( 2048 ) );
+    }
+
+    @Test
+    public void shouldOnlyKeepLimitedNumberOfBuffersPerSize() throws Throwable
+    {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool( 2, true );
+
+        // When
+        pool.release( pool.acquire( 16 ) );
+        pool.release( ByteBuffer.allocateDirect( 16 ) );
+        pool.release( ByteBuffer.allocateDirect( 16 ) );
+
+        // Then
+        assertThat( pool.pooledBuffers( 16 ), equalTo( 2 ) );
+    }
+
+    @Test
+    public void shouldNotKeepBuffersWhenUnpooled() throws Throwable
+    {
+        // Given
+        ByteBufferPool pool = ByteBufferPool.unpooled();
+        ByteBuffer buffer = pool.acquire( 64 );
+
+        // When
+        pool.release( buffer );
+
+        // Then
+        assertThat( pool.acquire( 64 ), not( sameInstance( buffer ) ) );
+        assertFalse( buffer.isDirect() );
+    }
+}
@@ -18,6 +18,10 @@
  */
 package org.neo4j.driver.internal.net;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 
@@ -45,6 +49,28 @@ public class ChunkedOutputTest
                 equalTo( "00 03 01 00 02 00 00 " ) );
     }
 
+    @Test
+    public void shouldReturnBufferToPoolWhenFlushed() throws Throwable
+    {
+        // Given
+        ByteBufferPool pool = new ByteBufferPool();
+        ChunkedOutput out = new ChunkedOutput( 16, channel, pool );
+
+        // When
+        out.writeByte( (byte) 1 ).writeShort( (short) 2 );
+        out.messageBoundaryHook().run();
+
+        // Then
+        assertThat( pool.pooledBuffers( 16 ), equalTo( 0 ) );
+
+        // When
+        out.flush();
+
+        // Then
+        assertThat( pool.pooledBuffers( 16 ), equalTo( 1 ) );
+        assertThat( BytePrinter.hex( channel.getBytes() ), equalTo( "00 03 01 00 02 00 00 " ) );
+    }
+
     @Test
     public void shouldChunkMessageSpanningMultipleChunks() throws Throwable
     {
@@ -95,4 +121,81 @@ public class ChunkedOutputTest
         assertThat( BytePrinter.hex( channel.getBytes() ),
                 equalTo( "00 0c 04 05 06 07 08 09    0a 0b 0c 0d 0e 0f 00 00    " ) );
     }
+
+    @Test
+    public void shouldWriteLargeByteArraysInOneGatheringWrite() throws Throwable
+    {
+        // Given
+        GatheringRecordingByteChannel channel = new GatheringRecordingByteChannel();
+        ChunkedOutput out = new ChunkedOutput( 16, channel );
+        byte[] data = new byte[20];
+        for ( int i = 0; i < data.length; i++ )
+        {
+            data[i] = (byte) i;
+        }
+
+        // When
+        out.writeByte( (byte) 0x7f );
+        out.writeBytes( data, 0, data.length );
+        out.writeByte( (byte) 0x7e );
+        out.messageBoundaryHook().run();
+        out.flush();
+
+        // Then
+        assertThat( channel.gatheringWrites, equalTo( 1 ) );
+        assertThat( BytePrinter.hex( channel.getBytes() ), equalTo( String.format(
+                "00 01 7f 00 14 00 01 02    03 04 05 06 07 08 09 0a    " +
+                "0b 0c 0d 0e 0f 10 11 12    13 00 01 7e 00 00 " ) ) );
+    }
+
+    @Test
+    public void shouldKeepWritingUntilAllDataIsFlushed() throws Throwable
+    {
+        // Given a channel that writes at most 3 bytes at a time
+        RecordingByteChannel channel = new RecordingByteChannel()
+        {
+            @Override
+            public int write( ByteBuffer src ) throws IOException
+            {
+                ByteBuffer part = src.duplicate();
+                part.limit( Math.min( src.limit(), src.position() + 3 ) );
+                int written = super.write( part );
+                src.position( src.position() + written );
+                return written;
+            }
+        };
+        ChunkedOutput out = new ChunkedOutput( 16, channel );
+
+        // When
+        out.writeLong( 1 );
+        out.messageBoundaryHook().run();
+        out.flush();
+
+        // Then
+        assertThat( BytePrinter.hex( channel.getBytes() ),
+                equalTo( "00 08 00 00 00 00 00 00    00 01 00 00 " ) );
+    }
+
+    private static class GatheringRecordingByteChannel extends RecordingByteChannel implements GatheringByteChannel
+    {
+        private int gatheringWrites = 0;
+
+        @Override
+        public long write( ByteBuffer[] srcs, int offset, int length ) throws IOException
+        {
+            gatheringWrites += 1;
+            long written = 0;
+            for ( int i = offset; i < offset + length; i++ )
+            {
+                written += write( srcs[i] );
+            }
+            return written;
+        }
+
+        @Override
+        public long write( ByteBuffer[] srcs ) throws IOException
+        {
+            return write( srcs, 0, srcs.length );
+        }
+    }
 }
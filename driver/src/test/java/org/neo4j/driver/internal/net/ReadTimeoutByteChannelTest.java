@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReadTimeoutByteChannelTest
+{
+    private ServerSocketChannel server;
+    private SocketChannel serverSide;
+    private ReadTimeoutByteChannel channel;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @Before
+    public void setUp() throws Exception
+    {
+        server = ServerSocketChannel.open();
+        server.bind( new InetSocketAddress( "localhost", 0 ) );
+        SocketChannel client = SocketChannel.open( server.getLocalAddress() );
+        serverSide = server.accept();
+        channel = new ReadTimeoutByteChannel( client, 100 );
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        executor.shutdownNow();
+        channel.close();
+        serverSide.close();
+        server.close();
+    }
+
+    @Test
+    public void shouldTimeOutWhenNoDataArrives() throws Exception
+    {
+        long start = System.currentTimeMillis();
+        try
+        {
+            channel.read( ByteBuffer.allocateDirect( 16 ) );
+            fail( "Expected the read to time out" );
+        }
+        catch ( SocketTimeoutException e )
+        {
+            assertTrue( System.currentTimeMillis() - start >= 100 );
+        }
+    }
+
+    @Test
+    public void shouldReadDataThatArrivesWithinTheTimeout() throws Exception
+    {
+        // Given
+        serverSide.write( ByteBuffer.wrap( new byte[]{1, 2, 3} ) );
+        ByteBuffer buffer = ByteBuffer.allocateDirect( 16 );
+
+        // When
+        int read = channel.read( buffer );
+
+        // Then
+        assertThat( read, equalTo( 3 ) );
+        assertThat( buffer.get( 2 ), equalTo( (byte) 3 ) );
+    }
+
+    @Test
+    public void shouldWriteEverythingOfGatheringWriteLargerThanSocketBuffers() throws Exception
+    {
+        // Given
+        final int size = 8 * 1024 * 1024;
+        ByteBuffer[] buffers = {ByteBuffer.allocateDirect( size / 2 ), ByteBuffer.allocate( size / 2 )};
+        Future<Integer> received = executor.submit( new Callable<Integer>()
+        {
+            @Override
+            public Integer call() throws Exception
+            {
+                ByteBuffer sink = ByteBuffer.allocate( 64 * 1024 );
+                int total = 0;
+                while ( total < size )
+                {
+                    sink.clear();
+                    total += serverSide.read( sink );
+                }
+                return total;
+            }
+        } );
+
+        // When
+        long written = channel.write( buffers );
+
+        // Then
+        assertThat( written, equalTo( (long) size ) );
+        assertThat( received.get( 30, TimeUnit.SECONDS ), equalTo( size ) );
+    }
+}
@@ -18,7 +18,6 @@
  */
 package org.neo4j.driver.internal.net;
 
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -30,9 +29,10 @@ import java.nio.channels.ByteChannel;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.logging.DevNullLogger;
 import org.neo4j.driver.internal.security.SecurityPlan;
-import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.AuthTokens;
 import org.neo4j.driver.v1.exceptions.ConnectionFailureException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -45,10 +45,7 @@ public class SocketClientTest
     @Rule
     public ExpectedException exception = ExpectedException.none();
 
-    // TODO: This is not possible with blocking NIO channels, unless we use inputStreams, but then we can't use
-    // off-heap buffers. We need to swap to use selectors, which would allow us to time out.
     @Test
-    @Ignore
     public void testNetworkTimeout() throws Throwable
     {
         // Given a server that will never reply
@@ -56,11 +53,16 @@ public class SocketClientTest
         BoltServerAddress address = new BoltServerAddress( "localhost", server.getLocalPort() );
 
         SecurityPlan securityPlan = SecurityPlan.insecure();
-        SocketClient client = new SocketClient( address, securityPlan, new DevNullLogger() );
+        ConnectionSettings settings = new ConnectionSettings( AuthTokens.none(), ConnectionSettings.DEFAULT_USER_AGENT,
+                BufferingChunkedInput.STACK_OVERFLOW_SUGGESTED_BUFFER_SIZE, BufferingChunkedInput.DEFAULT_MAX_BUFFER_SIZE,
+                false, new SocketSettings( true, SocketSettings.OS_DEFAULT_BUFFER_SIZE,
+                SocketSettings.OS_DEFAULT_BUFFER_SIZE, SocketSettings.DEFAULT_CONNECT_TIMEOUT, 100 ) );
+        SocketClient client = new SocketClient( address, securityPlan, settings, ByteBufferPool.unpooled(),
+                new DevNullLogger() );
 
         // Expect
-        exception.expect( ClientException.class );
-        exception.expectMessage( "database took longer than network timeout (100ms) to reply." );
+        exception.expect( ConnectionFailureException.class );
+        exception.expectMessage( "did not complete the connection handshake within the read timeout of 100ms." );
 
         // When
         client.start();
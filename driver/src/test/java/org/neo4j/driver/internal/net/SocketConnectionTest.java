@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.Collections;
+import java.util.Queue;
+
+import org.neo4j.driver.internal.spi.Collector;
+import org.neo4j.driver.v1.Value;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SocketConnectionTest
+{
+    private final SocketClient socket = mock( SocketClient.class );
+    private final SocketResponseHandler responseHandler = mock( SocketResponseHandler.class );
+
+    @Test
+    public void shouldSendMessagesWhenFlushed() throws Throwable
+    {
+        // Given
+        SocketConnection connection = new SocketConnection( socket, responseHandler, false );
+
+        // When
+        connection.run( "RETURN 1", Collections.<String,Value>emptyMap(), Collector.NO_OP );
+        connection.pullAll( Collector.NO_OP );
+        connection.flush();
+
+        // Then
+        verify( socket ).send( any( Queue.class ) );
+    }
+
+    @Test
+    public void shouldHoldBackCoalescedMessagesUntilReplyIsReceived() throws Throwable
+    {
+        // Given
+        SocketConnection connection = new SocketConnection( socket, responseHandler, true );
+
+        // When
+        connection.run( "RETURN 1", Collections.<String,Value>emptyMap(), Collector.NO_OP );
+        connection.pullAll( Collector.NO_OP );
+        connection.flush();
+
+        // Then
+        verify( socket, never() ).send( any( Queue.class ) );
+
+        // When
+        connection.receiveOne();
+
+        // Then
+        InOrder inOrder = inOrder( socket );
+        inOrder.verify( socket ).send( any( Queue.class ) );
+        inOrder.verify( socket ).receiveOne( responseHandler );
+    }
+
+    @Test
+    public void shouldSendCoalescedMessagesBeforeSyncReceivesReplies() throws Throwable
+    {
+        // Given
+        SocketConnection connection = new SocketConnection( socket, responseHandler, true );
+        connection.run( "RETURN 1", Collections.<String,Value>emptyMap(), Collector.NO_OP );
+        connection.pullAll( Collector.NO_OP );
+
+        // When
+        connection.sync();
+
+        // Then
+        InOrder inOrder = inOrder( socket );
+        inOrder.verify( socket ).send( any( Queue.class ) );
+        inOrder.verify( socket ).receiveAll( responseHandler );
+    }
+
+    @Test
+    public void shouldSendResetRightAwayWhenCoalescingMessages() throws Throwable
+    {
+        // Given
+        SocketConnection connection = new SocketConnection( socket, responseHandler, true );
+
+        // When
+        connection.resetAsync();
+
+        // Then
+        verify( socket ).send( any( Queue.class ) );
+    }
+}
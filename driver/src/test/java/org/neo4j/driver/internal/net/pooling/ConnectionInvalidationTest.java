@@ -50,6 +50,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +115,7 @@ public class ConnectionInvalidationTest
         Mockito.doThrow( new ClientException( "That didn't work" ) ).when( delegate ).reset();
         PoolSettings poolSettings = PoolSettings.defaultSettings();
         PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        conn.run( "RETURN 1", new HashMap<String,Value>(), Collector.NO_OP );
         PooledConnectionValidator validator =
                 new PooledConnectionValidator( pool( true ), poolSettings );
         // When/Then
@@ -123,6 +125,99 @@ public class ConnectionInvalidationTest
         consumer.accept( conn );
 
         verify( queue, never() ).add( conn );
+        verify( queue, never() ).offer( conn );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldNotResetCleanConnection() throws Throwable
+    {
+        // Given a connection that has been synced outside of a transaction
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        conn.run( "RETURN 1", new HashMap<String,Value>(), Collector.NO_OP );
+        conn.pullAll( Collector.NO_OP );
+        conn.sync();
+
+        // When
+        BlockingQueue<PooledConnection> queue = mock( BlockingQueue.class );
+        PooledConnectionReleaseConsumer consumer = new PooledConnectionReleaseConsumer( queue,
+                new AtomicBoolean( false ), new PooledConnectionValidator( pool( true ), PoolSettings.defaultSettings() ) );
+        consumer.accept( conn );
+
+        // Then
+        verify( queue ).offer( conn );
+        verify( delegate, never() ).reset();
+        verify( delegate, times( 1 ) ).sync();
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldQueueResetWithoutSyncForConnectionLeftInTransaction() throws Throwable
+    {
+        // Given a connection that has been synced inside of a transaction
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        conn.run( "BEGIN", new HashMap<String,Value>(), Collector.NO_OP );
+        conn.pullAll( Collector.NO_OP );
+        conn.sync();
+
+        // When
+        BlockingQueue<PooledConnection> queue = mock( BlockingQueue.class );
+        PooledConnectionReleaseConsumer consumer = new PooledConnectionReleaseConsumer( queue,
+                new AtomicBoolean( false ), new PooledConnectionValidator( pool( true ), PoolSettings.defaultSettings() ) );
+        consumer.accept( conn );
+
+        // Then
+        verify( queue ).offer( conn );
+        verify( delegate ).reset();
+        verify( delegate, times( 1 ) ).sync();
+        verify( delegate, never() ).flush();
+        assertFalse( conn.isTransactionOpen() );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldNotResetConnectionWithCommittedTransaction() throws Throwable
+    {
+        // Given
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        conn.run( "BEGIN", new HashMap<String,Value>(), Collector.NO_OP );
+        conn.pullAll( Collector.NO_OP );
+        conn.run( "COMMIT", new HashMap<String,Value>(), Collector.NO_OP );
+        conn.pullAll( Collector.NO_OP );
+        conn.sync();
+
+        // When
+        BlockingQueue<PooledConnection> queue = mock( BlockingQueue.class );
+        PooledConnectionReleaseConsumer consumer = new PooledConnectionReleaseConsumer( queue,
+                new AtomicBoolean( false ), new PooledConnectionValidator( pool( true ), PoolSettings.defaultSettings() ) );
+        consumer.accept( conn );
+
+        // Then
+        verify( queue ).offer( conn );
+        verify( delegate, never() ).reset();
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Test
+    public void shouldResetAndSyncConnectionWithPendingResponses() throws Throwable
+    {
+        // Given a connection with a result that has not been received
+        PooledConnection conn = new PooledConnection( delegate, Consumers.<PooledConnection>noOp(), clock );
+        conn.run( "RETURN 1", new HashMap<String,Value>(), Collector.NO_OP );
+        conn.pullAll( Collector.NO_OP );
+        conn.flush();
+
+        // When
+        BlockingQueue<PooledConnection> queue = mock( BlockingQueue.class );
+        PooledConnectionReleaseConsumer consumer = new PooledConnectionReleaseConsumer( queue,
+                new AtomicBoolean( false ), new PooledConnectionValidator( pool( true ), PoolSettings.defaultSettings() ) );
+        consumer.accept( conn );
+
+        // Then
+        verify( queue ).offer( conn );
+        verify( delegate ).reset();
+        verify( delegate ).sync();
+        assertFalse( conn.hasPendingResponses() );
     }
 
     @Test
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.net.pooling;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.spi.Collector;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.ClientException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.net.BoltServerAddress.LOCAL_DEFAULT;
+
+public class IdleConnectionMaintenanceTest
+{
+    private final List<Connection> opened = new ArrayList<>();
+
+    @Test
+    public void shouldCloseConnectionsIdleForLongerThanEvictionTimeout() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, Long.MAX_VALUE, 10, 10, 0, 0, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        pool.acquire( LOCAL_DEFAULT ).close();
+        Thread.sleep( 5 );
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 0 ) );
+        verify( opened.get( 0 ) ).close();
+    }
+
+    @Test
+    public void shouldKeepMinIdleConnectionsWhenEvicting() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, Long.MAX_VALUE, 10, 10, 1, 0, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        Connection first = pool.acquire( LOCAL_DEFAULT );
+        Connection second = pool.acquire( LOCAL_DEFAULT );
+        first.close();
+        second.close();
+        Thread.sleep( 5 );
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 1 ) );
+        assertThat( opened.size(), equalTo( 2 ) );
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public void shouldCloseStaleConnectionsThatFailToRespondToPing() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, 0, 10, 10, 0, -1, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        pool.acquire( LOCAL_DEFAULT ).close();
+        doThrow( new ClientException( "Broken connection" ) )
+                .when( opened.get( 0 ) ).run( anyString(), anyMapOf( String.class, Value.class ),
+                any( Collector.class ) );
+        Thread.sleep( 5 );
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 0 ) );
+        verify( opened.get( 0 ) ).close();
+    }
+
+    @Test
+    @SuppressWarnings( "unchecked" )
+    public void shouldNotPingRecentlyUsedConnections() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, Long.MAX_VALUE, 10, 10, 0, -1, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        pool.acquire( LOCAL_DEFAULT ).close();
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 1 ) );
+        verify( opened.get( 0 ), never() ).run( anyString(), anyMapOf( String.class, Value.class ),
+                any( Collector.class ) );
+    }
+
+    @Test
+    public void shouldOpenConnectionsUpToMinIdle() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, Long.MAX_VALUE, 10, 10, 3, -1, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        pool.acquire( LOCAL_DEFAULT ).close();
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 3 ) );
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldNotOpenConnectionsBeyondMaxConnectionPoolSize() throws Throwable
+    {
+        // Given
+        PoolSettings settings = new PoolSettings( 10, Long.MAX_VALUE, 2, 10, 5, -1, 0 );
+        SocketConnectionPool pool = newPool( settings );
+        pool.acquire( LOCAL_DEFAULT );
+
+        // When
+        maintain( pool, settings );
+
+        // Then
+        assertThat( idleConnections( pool ), equalTo( 1 ) );
+        assertThat( opened.size(), equalTo( 2 ) );
+    }
+
+    private static void maintain( SocketConnectionPool pool, PoolSettings settings )
+    {
+        new IdleConnectionMaintenance( pool, settings, new AtomicBoolean( false ), new DevNullLogger() ).run();
+    }
+
+    private static int idleConnections( SocketConnectionPool pool )
+    {
+        int idle = 0;
+        for ( ServerPool serverPool : pool.serverPools() )
+        {
+            idle += serverPool.idleConnections().size();
+        }
+        return idle;
+    }
+
+    private SocketConnectionPool newPool( PoolSettings settings )
+    {
+        return new SocketConnectionPool( new ConnectionSettings( AuthTokens.none() ), SecurityPlan.insecure(),
+                settings, null )
+        {
+            @Override
+            Connection connect( BoltServerAddress address )
+            {
+                Connection connection = mock( Connection.class );
+                when( connection.address() ).thenReturn( address );
+                opened.add( connection );
+                return connection;
+            }
+        };
+    }
+}
@@ -18,12 +18,276 @@
  */
 package org.neo4j.driver.internal.net.pooling;
 
-import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.util.Function;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.net.BoltServerAddress.LOCAL_DEFAULT;
 
-@Ignore
 public class SocketConnectionPoolTest
 {
+    @Test
+    public void shouldFailToAcquireWhenMaxConnectionsAreInUse() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = newPool( 2, 10 );
+        pool.acquire( LOCAL_DEFAULT );
+        pool.acquire( LOCAL_DEFAULT );
+
+        // When
+        try
+        {
+            pool.acquire( LOCAL_DEFAULT );
+            fail( "Should have failed to acquire a third connection" );
+        }
+        // Then
+        catch ( ClientException e )
+        {
+            assertThat( e.getMessage(), containsString( "Unable to acquire connection" ) );
+        }
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 2 ) );
+    }
+
+    @Test
+    public void shouldHandReleasedConnectionToWaitingCaller() throws Throwable
+    {
+        // Given
+        final SocketConnectionPool pool = newPool( 1, TimeUnit.SECONDS.toMillis( 10 ) );
+        Connection first = pool.acquire( LOCAL_DEFAULT );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            Future<Connection> waiter = executor.submit( new Callable<Connection>()
+            {
+                @Override
+                public Connection call() throws Exception
+                {
+                    return pool.acquire( LOCAL_DEFAULT );
+                }
+            } );
+            Thread.sleep( 100 );
+            assertFalse( waiter.isDone() );
+
+            // When
+            first.close();
+
+            // Then
+            assertThat( waiter.get( 10, TimeUnit.SECONDS ), sameInstance( first ) );
+            assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 1 ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReleasePermitWhenConnectFails() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = new SocketConnectionPool( new ConnectionSettings( AuthTokens.none() ),
+                SecurityPlan.insecure(), new PoolSettings( 10, 200, 1, 10, 0, -1, 0 ), null )
+        {
+            @Override
+            Connection connect( BoltServerAddress address )
+            {
+                throw new ClientException( "Unable to connect" );
+            }
+        };
+
+        // When
+        for ( int i = 0; i < 3; i++ )
+        {
+            try
+            {
+                pool.acquire( LOCAL_DEFAULT );
+                fail( "Should have failed to connect" );
+            }
+            catch ( ClientException e )
+            {
+                assertThat( e.getMessage(), equalTo( "Unable to connect" ) );
+            }
+        }
+
+        // Then
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldReleasePermitWhenReleasedConnectionIsDisposed() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = newPool( 1, 10 );
+        Connection connection = pool.acquire( LOCAL_DEFAULT );
+        ServerPool serverPool = pool.serverPools().iterator().next();
+
+        // When
+        pool.purge( LOCAL_DEFAULT );
+        connection.close();
+
+        // Then the permit went back to the server pool the connection came from
+        assertThat( serverPool.activeConnections(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldReleasePermitOnlyOnceWhenConnectionIsClosedTwice() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = newPool( 1, 10 );
+        Connection connection = pool.acquire( LOCAL_DEFAULT );
+
+        // When
+        connection.close();
+        connection.close();
+
+        // Then the pool is still limited to one connection
+        Connection reacquired = pool.acquire( LOCAL_DEFAULT );
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 1 ) );
+        try
+        {
+            pool.acquire( LOCAL_DEFAULT );
+            fail( "Should not hand out more connections than the max pool size" );
+        }
+        catch ( ClientException e )
+        {
+            // expected, the acquisition timed out
+        }
+
+        // And the reacquired connection can be returned again
+        reacquired.close();
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldWarmUpIdleConnectionsForAllAddresses() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = newPool( 10, 10 );
+        BoltServerAddress other = new BoltServerAddress( "localhost", 7688 );
+
+        // When
+        pool.warmUp( asList( LOCAL_DEFAULT, other ), 3 ).get( 10, TimeUnit.SECONDS );
+
+        // Then
+        for ( ServerPool serverPool : pool.serverPools() )
+        {
+            assertThat( serverPool.idleConnections().size(), equalTo( 3 ) );
+        }
+        assertThat( pool.serverPools().size(), equalTo( 2 ) );
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldFailWarmUpWhenConnectionsCannotBeEstablished() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = new SocketConnectionPool( new ConnectionSettings( AuthTokens.none() ),
+                SecurityPlan.insecure(), new PoolSettings( 10, 200, 10, 10, 0, -1, 0 ), null )
+        {
+            @Override
+            Connection connect( BoltServerAddress address )
+            {
+                throw new ClientException( "Unable to connect" );
+            }
+        };
+
+        // When
+        try
+        {
+            pool.warmUp( asList( LOCAL_DEFAULT ), 2 ).get( 10, TimeUnit.SECONDS );
+            fail( "Should have failed to warm up" );
+        }
+        // Then
+        catch ( ExecutionException e )
+        {
+            assertThat( e.getCause(), instanceOf( ClientException.class ) );
+        }
+        assertThat( pool.activeConnections( LOCAL_DEFAULT ), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldShareWarmUpThreadsBetweenWarmUps() throws Throwable
+    {
+        // Given
+        final Set<Thread> threads = Collections.newSetFromMap( new ConcurrentHashMap<Thread,Boolean>() );
+        SocketConnectionPool pool = new SocketConnectionPool( new ConnectionSettings( AuthTokens.none() ),
+                SecurityPlan.insecure(), new PoolSettings( 10, 200, 10, 10, 0, -1, 0 ), null )
+        {
+            @Override
+            Connection connect( BoltServerAddress address )
+            {
+                threads.add( Thread.currentThread() );
+                Connection connection = mock( Connection.class );
+                when( connection.address() ).thenReturn( address );
+                return connection;
+            }
+        };
+
+        // When
+        for ( int port = 7000; port < 7005; port++ )
+        {
+            pool.warmUp( asList( new BoltServerAddress( "localhost", port ) ), 10 ).get( 10, TimeUnit.SECONDS );
+        }
+
+        // Then
+        assertThat( threads.size(), lessThanOrEqualTo( 16 ) );
+        pool.close();
+    }
+
+    @Test
+    public void shouldNotWarmUpClosedPool() throws Throwable
+    {
+        // Given
+        SocketConnectionPool pool = newPool( 10, 10 );
+        pool.close();
+
+        // When
+        pool.warmUp( asList( LOCAL_DEFAULT ), 3 ).get( 10, TimeUnit.SECONDS );
 
-    // TODO: write some tests that actually test something
+        // Then
+        assertThat( pool.serverPools().iterator().next().idleConnections().size(), equalTo( 0 ) );
+    }
 
+    private static SocketConnectionPool newPool( int maxConnections, long acquisitionTimeout )
+    {
+        return new SocketConnectionPool( new ConnectionSettings( AuthTokens.none() ), SecurityPlan.insecure(),
+                new PoolSettings( 10, 200, maxConnections, acquisitionTimeout, 0, -1, 0 ), null )
+        {
+            @Override
+            Connection connect( BoltServerAddress address )
+            {
+                Connection connection = mock( Connection.class );
+                when( connection.address() ).thenReturn( address );
+                return connection;
+            }
+        };
+    }
 }
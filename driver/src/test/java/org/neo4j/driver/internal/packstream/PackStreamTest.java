@@ -30,6 +30,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -44,6 +45,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -416,6 +418,104 @@ public class PackStreamTest
 
     }
 
+    @Test
+    public void testCanPackAndUnpackAsciiAndNonAsciiStrings() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine( 1000000 );
+        StringBuilder longCjk = new StringBuilder();
+        for ( int i = 0; i < 10000; i++ )
+        {
+            longCjk.append( '\u6f22' );
+        }
+        String[] strings = {"plain ascii", "Latin-1: åäö ñ ß", "CJK: 漢字テキスト", "emoji: \uD83D\uDE00",
+                repeat( 'a', 100 ), repeat( 'b', 5000 ), longCjk.toString(), "\u007f"};
+
+        // When
+        PackStream.Packer packer = machine.packer();
+        for ( String string : strings )
+        {
+            packer.pack( string );
+        }
+        packer.flush();
+
+        // Then
+        byte[] output = machine.output();
+        PackStream.Unpacker unpacker = newUnpacker( output );
+        for ( String string : strings )
+        {
+            assertEquals( string, unpacker.unpackString() );
+        }
+        assertFalse( unpacker.hasNext() );
+    }
+
+    private static String repeat( char c, int times )
+    {
+        char[] chars = new char[times];
+        Arrays.fill( chars, c );
+        return new String( chars );
+    }
+
+    @Test
+    public void shouldPackStringsLikeTheirUtf8Bytes() throws Throwable
+    {
+        StringBuilder large = new StringBuilder();
+        for ( int i = 0; i < 5000; i++ )
+        {
+            large.append( "a\u00e5\u6f22\uD83D\uDE00" );
+        }
+        String[] strings = {"", "plain ascii", "Latin-1: åäö", "CJK: 漢字", "emoji: \uD83D\uDE00",
+                "lone high \uD83D surrogate", "lone low \uDE00 surrogate", "ends with high \uD83D",
+                large.toString()};
+
+        for ( String string : strings )
+        {
+            // When
+            Machine streamed = new Machine( 100000 );
+            streamed.packer().pack( string );
+            streamed.packer().flush();
+
+            Machine encoded = new Machine( 100000 );
+            encoded.packer().packString( string.getBytes( UTF_8 ) );
+            encoded.packer().flush();
+
+            // Then
+            assertEquals( string.getBytes( UTF_8 ).length, PackStream.Packer.utf8Length( string ) );
+            assertArrayEquals( encoded.output(), streamed.output() );
+        }
+    }
+
+    @Test
+    public void shouldUnpackRepeatedTokensToSameInstance() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+        String longToken = new String( new char[TokenCache.MAX_TOKEN_LENGTH + 1] ).replace( '\0', 'x' );
+
+        // When
+        PackStream.Packer packer = machine.packer();
+        packer.pack( "name" );
+        packer.pack( "Ä∂ƒ" );
+        packer.pack( longToken );
+        packer.pack( "name" );
+        packer.pack( "Ä∂ƒ" );
+        packer.pack( longToken );
+        packer.flush();
+
+        // Then
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+        String name = unpacker.unpackToken();
+        String special = unpacker.unpackToken();
+        String tooLong = unpacker.unpackToken();
+
+        assertEquals( "name", name );
+        assertEquals( "Ä∂ƒ", special );
+        assertEquals( longToken, tooLong );
+        assertSame( name, unpacker.unpackToken() );
+        assertSame( special, unpacker.unpackToken() );
+        assertEquals( longToken, unpacker.unpackToken() );
+    }
+
     @Test
     public void testCanPackAndUnpackSpecialString() throws Throwable
     {
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class KnownHostsTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldKeepServersAddedByOtherStoresOfTheSameFile() throws Throwable
+    {
+        // Given two drivers that loaded the same file
+        File file = new File( folder.getRoot(), "known_hosts" );
+        KnownHosts first = new KnownHosts( file );
+        KnownHosts second = new KnownHosts( file );
+
+        // When each of them trusts another server
+        first.trustOnFirstUse( "1.2.3.4:7687", "fingerprint-a" );
+        first.persist();
+        second.trustOnFirstUse( "5.6.7.8:7687", "fingerprint-b" );
+        second.persist();
+
+        // Then the file contains both servers
+        KnownHosts reloaded = new KnownHosts( file );
+        assertThat( reloaded.fingerprint( "1.2.3.4:7687" ), equalTo( "fingerprint-a" ) );
+        assertThat( reloaded.fingerprint( "5.6.7.8:7687" ), equalTo( "fingerprint-b" ) );
+
+        // And servers known to both are written once
+        second.trustOnFirstUse( "9.9.9.9:7687", "fingerprint-c" );
+        second.persist();
+        assertThat( Files.readAllLines( file.toPath(), UTF_8 ).size(), equalTo( 5 ) );
+    }
+
+    @Test
+    public void shouldKeepPermissionsOfTheFile() throws Throwable
+    {
+        // Given
+        File file = folder.newFile( "known_hosts" );
+        assumeTrue( Files.getFileStore( file.toPath() ).supportsFileAttributeView( PosixFileAttributeView.class ) );
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString( "rw-r--r--" );
+        Files.setPosixFilePermissions( file.toPath(), permissions );
+        KnownHosts knownHosts = new KnownHosts( file );
+
+        // When
+        knownHosts.trustOnFirstUse( "1.2.3.4:7687", "fingerprint" );
+        knownHosts.persist();
+
+        // Then
+        assertThat( Files.getPosixFilePermissions( file.toPath() ), equalTo( permissions ) );
+    }
+
+    @Test
+    public void shouldAdoptFingerprintWrittenFirstByOtherStoreOfTheSameFile() throws Throwable
+    {
+        // Given two drivers that loaded the same file
+        File file = new File( folder.getRoot(), "known_hosts" );
+        KnownHosts first = new KnownHosts( file );
+        KnownHosts second = new KnownHosts( file );
+
+        // When both trust the same server, with different fingerprints
+        first.trustOnFirstUse( "1.2.3.4:7687", "fingerprint-a" );
+        second.trustOnFirstUse( "1.2.3.4:7687", "fingerprint-b" );
+        first.persist();
+        second.persist();
+
+        // Then the fingerprint written first wins, on disk and in memory
+        assertThat( new KnownHosts( file ).fingerprint( "1.2.3.4:7687" ), equalTo( "fingerprint-a" ) );
+        assertThat( second.fingerprint( "1.2.3.4:7687" ), equalTo( "fingerprint-a" ) );
+        assertThat( Files.readAllLines( file.toPath(), UTF_8 ).size(), equalTo( 3 ) );
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.security.NoSuchProviderException;
+import javax.net.ssl.SSLSession;
+
+import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.net.BoltServerAddress;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.net.BoltServerAddress.LOCAL_DEFAULT;
+
+public class SecurityPlanTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldUseSslContextOfGivenProvider() throws Throwable
+    {
+        // Given
+        File knownHosts = folder.newFile( "known_hosts" );
+
+        // When
+        SecurityPlan trustOnFirstUse = SecurityPlan.forTrustOnFirstUse( knownHosts, BoltServerAddress.LOCAL_DEFAULT,
+                new DevNullLogger(), "SunJSSE" );
+
+        // Then
+        assertThat( trustOnFirstUse.sslContext().getProvider().getName(), equalTo( "SunJSSE" ) );
+    }
+
+    @Test( expected = NoSuchProviderException.class )
+    public void shouldFailForUnknownProvider() throws Throwable
+    {
+        SecurityPlan.forTrustOnFirstUse( folder.newFile( "known_hosts" ), BoltServerAddress.LOCAL_DEFAULT,
+                new DevNullLogger(), "NoSuchProvider" );
+    }
+
+    @Test
+    public void shouldCountHandshakesEndingWithTheSessionOfThePreviousOneAsResumed() throws Throwable
+    {
+        // Given
+        SecurityPlan plan = SecurityPlan.forTrustOnFirstUse( folder.newFile( "known_hosts" ),
+                BoltServerAddress.LOCAL_DEFAULT, new DevNullLogger() );
+        BoltServerAddress other = new BoltServerAddress( "localhost", 7688 );
+
+        // When & Then
+        assertThat( plan.handshakeCompleted( LOCAL_DEFAULT, session( new byte[]{1}, 1000 ) ), equalTo( false ) );
+        // a resumed TLS 1.2 session keeps its id
+        assertThat( plan.handshakeCompleted( LOCAL_DEFAULT, session( new byte[]{1}, 1000 ) ), equalTo( true ) );
+        // a resumed TLS 1.3 session gets a new id, but keeps its creation time
+        assertThat( plan.handshakeCompleted( LOCAL_DEFAULT, session( new byte[]{2}, 1000 ) ), equalTo( true ) );
+        assertThat( plan.handshakeCompleted( other, session( new byte[]{2}, 1000 ) ), equalTo( false ) );
+        assertThat( plan.handshakeCompleted( LOCAL_DEFAULT, session( new byte[]{3}, 2000 ) ), equalTo( false ) );
+        assertThat( plan.handshakeCompleted( other, session( new byte[0], 3000 ) ), equalTo( false ) );
+        assertThat( plan.handshakeCompleted( other, session( new byte[0], 4000 ) ), equalTo( false ) );
+
+        assertThat( plan.fullHandshakes(), equalTo( 5L ) );
+        assertThat( plan.resumedHandshakes(), equalTo( 2L ) );
+    }
+
+    private static SSLSession session( byte[] id, long creationTime )
+    {
+        SSLSession session = mock( SSLSession.class );
+        when( session.getId() ).thenReturn( id );
+        when( session.getCreationTime() ).thenReturn( creationTime );
+        return session;
+    }
+}
@@ -25,20 +25,36 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import javax.net.ssl.SSLEngine;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import org.neo4j.driver.internal.net.BoltServerAddress;
 import org.neo4j.driver.v1.Logger;
+import org.neo4j.driver.v1.util.CertificateToolTest.SelfSignedCertificateGenerator;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -136,6 +152,81 @@ public class TrustOnFirstUseTrustManagerTest
         assertEquals( knownServerIp + ":" + newPort + " " + fingerprint, line );
     }
 
+    @Test
+    public void shouldIdentifyServerByPeerOfEngine() throws Throwable
+    {
+        // Given
+        BoltServerAddress seedAddress = new BoltServerAddress( knownServerIp, knownServerPort );
+        TrustOnFirstUseTrustManager manager =
+                new TrustOnFirstUseTrustManager( seedAddress, knownCertsFile, mock( Logger.class ) );
+        X509Certificate otherCertificate = mock( X509Certificate.class );
+        when( otherCertificate.getEncoded() ).thenReturn( "other certificate".getBytes( "UTF-8" ) );
+        SSLEngine engine = mock( SSLEngine.class );
+        when( engine.getPeerHost() ).thenReturn( knownServerIp );
+        when( engine.getPeerPort() ).thenReturn( 300 );
+
+        // When
+        manager.checkServerTrusted( new X509Certificate[]{otherCertificate}, "RSA", engine );
+
+        // Then the other server is trusted with its own certificate, and the known one is kept
+        Scanner reader = new Scanner( knownCertsFile );
+        assertEquals( knownServer + " " + fingerprint( knownCertificate ), nextLine( reader ) );
+        assertEquals( knownServerIp + ":300 " + fingerprint( otherCertificate ), nextLine( reader ) );
+        assertThat( new Scanner( knownCertsFile ).nextLine(), containsString( "# I am a comment." ) );
+
+        // And both are known to managers that load the file later
+        TrustOnFirstUseTrustManager reloaded =
+                new TrustOnFirstUseTrustManager( seedAddress, knownCertsFile, mock( Logger.class ) );
+        reloaded.checkServerTrusted( new X509Certificate[]{knownCertificate}, "RSA" );
+        reloaded.checkServerTrusted( new X509Certificate[]{otherCertificate}, "RSA", engine );
+    }
+
+    @Test
+    public void shouldComputeFingerprintOfSameCertificateOnlyOnce() throws Throwable
+    {
+        // Given the same certificate, as received by the handshakes of two connections
+        File certFile = testDir.newFile( "server.cert" );
+        new SelfSignedCertificateGenerator().saveSelfSignedCertificate( certFile );
+        X509Certificate firstHandshake = parseCertificate( certFile );
+        X509Certificate secondHandshake = parseCertificate( certFile );
+        assertNotSame( firstHandshake, secondHandshake );
+
+        final List<Object> trustedFingerprints = new ArrayList<>();
+        Logger logger = mock( Logger.class );
+        doAnswer( new Answer()
+        {
+            @Override
+            public Object answer( InvocationOnMock invocation ) throws Throwable
+            {
+                trustedFingerprints.add( invocation.getArguments()[1] );
+                return null;
+            }
+        } ).when( logger ).warn( anyString(), anyVararg() );
+        TrustOnFirstUseTrustManager manager = new TrustOnFirstUseTrustManager(
+                new BoltServerAddress( knownServerIp, 300 ), knownCertsFile, logger );
+        SSLEngine engine = mock( SSLEngine.class );
+        when( engine.getPeerHost() ).thenReturn( knownServerIp );
+        when( engine.getPeerPort() ).thenReturn( 301 );
+
+        // When
+        manager.checkServerTrusted( new X509Certificate[]{firstHandshake}, "RSA" );
+        manager.checkServerTrusted( new X509Certificate[]{secondHandshake}, "RSA", engine );
+
+        // Then the fingerprint computed for the first copy is reused for the second one
+        assertThat( trustedFingerprints.size(), equalTo( 2 ) );
+        assertEquals( fingerprint( secondHandshake ), trustedFingerprints.get( 1 ) );
+        assertSame( trustedFingerprints.get( 0 ), trustedFingerprints.get( 1 ) );
+    }
+
+    private static X509Certificate parseCertificate( File certFile ) throws Exception
+    {
+        // unlike the JDK's own, this factory returns a new instance for every certificate it parses
+        try ( InputStream in = new FileInputStream( certFile ) )
+        {
+            return (X509Certificate) CertificateFactory.getInstance( "X.509", "BC" ).generateCertificate( in );
+        }
+    }
+
     private String nextLine( Scanner reader )
     {
         String line;
@@ -198,4 +289,31 @@ public class TrustOnFirstUseTrustManagerTest
             fail( "Should not get any other error besides no permission to write" );
         }
     }
+
+    @Test
+    public void shouldNotTrustCertificateWhenOtherDriverSavedAnotherOneFirst() throws Throwable
+    {
+        // Given two drivers that loaded the same file
+        BoltServerAddress address = new BoltServerAddress( knownServerIp, 200 );
+        Logger logger = mock( Logger.class );
+        TrustOnFirstUseTrustManager first = new TrustOnFirstUseTrustManager( address, knownCertsFile, logger );
+        TrustOnFirstUseTrustManager second = new TrustOnFirstUseTrustManager( address, knownCertsFile, logger );
+
+        X509Certificate otherCertificate = mock( X509Certificate.class );
+        when( otherCertificate.getEncoded() ).thenReturn( "other certificate".getBytes( "UTF-8" ) );
+
+        // When
+        first.checkServerTrusted( new X509Certificate[]{knownCertificate}, null );
+
+        // Then
+        try
+        {
+            second.checkServerTrusted( new X509Certificate[]{otherCertificate}, null );
+            fail( "Should not trust a certificate other than the one saved first" );
+        }
+        catch ( CertificateException e )
+        {
+            assertThat( e.getMessage(), containsString( "trusted a different certificate for it first" ) );
+        }
+    }
 }
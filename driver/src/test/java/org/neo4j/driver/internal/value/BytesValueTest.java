@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.Test;
+
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.value.Uncoercible;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.neo4j.driver.v1.Values.value;
+
+public class BytesValueTest
+{
+    @Test
+    public void testBytesValue() throws Exception
+    {
+        // Given
+        BytesValue value = new BytesValue( new byte[]{1, 2, 3} );
+
+        // Then
+        assertArrayEquals( new byte[]{1, 2, 3}, value.asByteArray() );
+        assertArrayEquals( new byte[]{1, 2, 3}, (byte[]) value.asObject() );
+        assertThat( value.size(), equalTo( 3 ) );
+    }
+
+    @Test
+    public void shouldHaveCorrectType() throws Throwable
+    {
+        assertThat( new BytesValue( new byte[0] ).type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.BYTES() ) );
+    }
+
+    @Test
+    public void shouldHaveSensibleToString() throws Throwable
+    {
+        assertThat( new BytesValue( new byte[]{1, 2, -1} ).toString(), equalTo( "#0102ff" ) );
+    }
+
+    @Test
+    public void shouldEqualBytesValueWithSameContent() throws Throwable
+    {
+        Value value = value( new byte[]{1, 2, 3} );
+
+        assertThat( value, equalTo( (Value) new BytesValue( new byte[]{1, 2, 3} ) ) );
+        assertThat( value.hashCode(), equalTo( new BytesValue( new byte[]{1, 2, 3} ).hashCode() ) );
+        assertThat( value, not( equalTo( (Value) new BytesValue( new byte[]{1, 2} ) ) ) );
+    }
+
+    @Test
+    public void shouldConvertByteArrayObjects() throws Throwable
+    {
+        assertThat( value( (Object) new byte[]{4, 5} ), equalTo( (Value) new BytesValue( new byte[]{4, 5} ) ) );
+    }
+
+    @Test( expected = Uncoercible.class )
+    public void shouldNotConvertStringToBytes() throws Throwable
+    {
+        value( "bytes" ).asByteArray();
+    }
+}
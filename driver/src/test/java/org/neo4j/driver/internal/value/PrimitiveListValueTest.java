@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.value.Uncoercible;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.neo4j.driver.v1.Values.NULL;
+import static org.neo4j.driver.v1.Values.value;
+
+public class PrimitiveListValueTest
+{
+    @Test
+    public void shouldHaveSensibleToString() throws Throwable
+    {
+        assertThat( new LongListValue( 1, 2, 3 ).toString(), equalTo( "[1, 2, 3]" ) );
+        assertThat( new DoubleListValue( 1.5, 2.0 ).toString(), equalTo( "[1.5, 2.0]" ) );
+        assertThat( new BooleanListValue( true, false ).toString(), equalTo( "[TRUE, FALSE]" ) );
+    }
+
+    @Test
+    public void shouldHaveCorrectType() throws Throwable
+    {
+        assertThat( new LongListValue().type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+        assertThat( new DoubleListValue().type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+        assertThat( new BooleanListValue().type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+    }
+
+    @Test
+    public void shouldEqualListValueWithSameElements() throws Throwable
+    {
+        Value packed = new LongListValue( 1, 2, 3 );
+        Value boxed = new ListValue( value( 1 ), value( 2 ), value( 3 ) );
+
+        assertThat( packed, equalTo( boxed ) );
+        assertThat( boxed, equalTo( packed ) );
+        assertThat( packed.hashCode(), equalTo( boxed.hashCode() ) );
+    }
+
+    @Test
+    public void shouldAccessElementsAsValuesAndObjects() throws Throwable
+    {
+        Value doubles = new DoubleListValue( 1.5, 2.5 );
+
+        assertThat( doubles.size(), equalTo( 2 ) );
+        assertThat( doubles.get( 1 ), equalTo( value( 2.5 ) ) );
+        assertThat( doubles.get( 2 ), equalTo( NULL ) );
+        assertThat( doubles.asList(), equalTo( Arrays.<Object>asList( 1.5, 2.5 ) ) );
+        assertThat( doubles.asObject(), equalTo( (Object) asList( 1.5, 2.5 ) ) );
+    }
+
+    @Test
+    public void shouldReturnBackingArrayOfElementType() throws Throwable
+    {
+        long[] longs = {1, 2, 3};
+
+        assertSame( longs, new LongListValue( longs ).asLongArray() );
+        assertArrayEquals( new double[]{1, 2, 3}, new LongListValue( longs ).asDoubleArray(), 0 );
+        assertArrayEquals( new long[]{1, 2}, new ListValue( value( 1 ), value( 2 ) ).asLongArray() );
+    }
+
+    @Test( expected = Uncoercible.class )
+    public void shouldNotConvertBooleansToLongs() throws Throwable
+    {
+        new BooleanListValue( true ).asLongArray();
+    }
+}
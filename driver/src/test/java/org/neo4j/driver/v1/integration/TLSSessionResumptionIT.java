@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.integration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.security.KeyStore;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+
+import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.net.BoltServerAddress;
+import org.neo4j.driver.internal.security.SecurityPlan;
+import org.neo4j.driver.internal.security.TLSSocketChannel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.neo4j.driver.internal.util.CertificateTool.saveX509Cert;
+
+public class TLSSessionResumptionIT
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ServerSocket server;
+    private SecurityPlan securityPlan;
+
+    @Before
+    public void setup() throws Throwable
+    {
+        KeyStore ks = KeyStore.getInstance( "JKS" );
+        char[] password = "password".toCharArray();
+        ks.load( getClass().getResourceAsStream( "/keystore.jks" ), password );
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance( "SunX509" );
+        kmf.init( ks, password );
+
+        SSLContext serverContext = SSLContext.getInstance( "TLS" );
+        serverContext.init( kmf.getKeyManagers(), null, null );
+        server = serverContext.getServerSocketFactory().createServerSocket( 0 );
+        startServer();
+
+        File certFile = folder.newFile( "server.cert" );
+        saveX509Cert( ks.getCertificate( ks.aliases().nextElement() ), certFile );
+        securityPlan = SecurityPlan.forSignedCertificates( certFile );
+    }
+
+    @After
+    public void teardown() throws Throwable
+    {
+        server.close();
+    }
+
+    @Test
+    public void shouldResumeSessionWhenConnectingToSameServerAgain() throws Throwable
+    {
+        // When
+        TLSSocketChannel first = connect();
+        TLSSocketChannel second = connect();
+        TLSSocketChannel third = connect();
+
+        // Then
+        assertThat( first.resumedSession(), equalTo( false ) );
+        assertThat( second.resumedSession(), equalTo( true ) );
+        assertThat( third.resumedSession(), equalTo( true ) );
+        assertThat( securityPlan.fullHandshakes(), equalTo( 1L ) );
+        assertThat( securityPlan.resumedHandshakes(), equalTo( 2L ) );
+
+        first.close();
+        second.close();
+        third.close();
+    }
+
+    private TLSSocketChannel connect() throws Throwable
+    {
+        BoltServerAddress address = new BoltServerAddress( "localhost", server.getLocalPort() );
+        SocketChannel channel = SocketChannel.open( new InetSocketAddress( "localhost", server.getLocalPort() ) );
+        TLSSocketChannel tlsChannel = new TLSSocketChannel( address, securityPlan, channel, new DevNullLogger() );
+
+        // With TLS 1.3, the server hands out the ticket to resume the session with after the handshake
+        ByteBuffer greeting = ByteBuffer.allocate( 1 );
+        while ( greeting.hasRemaining() )
+        {
+            tlsChannel.read( greeting );
+        }
+        return tlsChannel;
+    }
+
+    private void startServer()
+    {
+        new Thread( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    //noinspection InfiniteLoopStatement
+                    while ( true )
+                    {
+                        SSLSocket client = (SSLSocket) server.accept();
+                        client.startHandshake();
+                        client.getOutputStream().write( 1 );
+                        client.getOutputStream().flush();
+                    }
+                }
+                catch ( IOException e )
+                {
+                    // server closed
+                }
+            }
+        } ).start();
+    }
+}
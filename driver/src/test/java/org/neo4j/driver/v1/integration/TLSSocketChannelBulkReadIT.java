@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.v1.integration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import org.neo4j.driver.internal.logging.DevNullLogger;
+import org.neo4j.driver.internal.security.TLSSocketChannel;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Reads a stream of several TLS records with destination buffers both smaller and larger than a record, so that
+ * data is deciphered both through the channel's own buffer and straight into the destination buffer.
+ */
+public class TLSSocketChannelBulkReadIT
+{
+    private final byte[] blobOfData = new byte[256 * 1024];
+    private SSLContext sslCtx;
+    private ServerSocket server;
+
+    @Before
+    public void setup() throws Throwable
+    {
+        for ( int i = 0; i < blobOfData.length; i++ )
+        {
+            blobOfData[i] = (byte) (i % 127);
+        }
+
+        KeyStore ks = KeyStore.getInstance( "JKS" );
+        char[] password = "password".toCharArray();
+        ks.load( getClass().getResourceAsStream( "/keystore.jks" ), password );
+        KeyManagerFactory kmf = KeyManagerFactory.getInstance( "SunX509" );
+        kmf.init( ks, password );
+
+        sslCtx = SSLContext.getInstance( "TLS" );
+        sslCtx.init( kmf.getKeyManagers(), new TrustManager[]{new X509TrustManager()
+        {
+            public void checkClientTrusted( X509Certificate[] chain, String authType )
+            {
+            }
+
+            public void checkServerTrusted( X509Certificate[] chain, String authType )
+            {
+            }
+
+            public X509Certificate[] getAcceptedIssuers()
+            {
+                return null;
+            }
+        }}, null );
+
+        server = sslCtx.getServerSocketFactory().createServerSocket( 0 );
+        startServer();
+    }
+
+    @After
+    public void teardown() throws Throwable
+    {
+        server.close();
+    }
+
+    @Test
+    public void shouldReadAllDataWithSmallAndLargeBuffers() throws Throwable
+    {
+        for ( int bufferSize : new int[]{7, 1024, 16 * 1024 + 1, 64 * 1024} )
+        {
+            assertThat( readBlob( bufferSize ), equalTo( blobOfData ) );
+        }
+    }
+
+    private byte[] readBlob( int bufferSize ) throws Throwable
+    {
+        SSLEngine engine = sslCtx.createSSLEngine();
+        engine.setUseClientMode( true );
+        SocketChannel ch = SocketChannel.open( new InetSocketAddress( "localhost", server.getLocalPort() ) );
+
+        try ( TLSSocketChannel channel = new TLSSocketChannel( ch, new DevNullLogger(), engine ) )
+        {
+            ByteBuffer received = ByteBuffer.allocate( blobOfData.length );
+            ByteBuffer readBuffer = ByteBuffer.allocate( bufferSize );
+            while ( received.hasRemaining() )
+            {
+                readBuffer.clear();
+                readBuffer.limit( Math.min( bufferSize, received.remaining() ) );
+                channel.read( readBuffer );
+                readBuffer.flip();
+                received.put( readBuffer );
+            }
+            return received.array();
+        }
+    }
+
+    private void startServer()
+    {
+        new Thread( new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                try
+                {
+                    //noinspection InfiniteLoopStatement
+                    while ( true )
+                    {
+                        Socket client = server.accept();
+                        OutputStream outputStream = client.getOutputStream();
+                        outputStream.write( blobOfData );
+                        outputStream.flush();
+                    }
+                }
+                catch ( IOException e )
+                {
+                    // server closed
+                }
+            }
+        } ).start();
+    }
+}
@@ -48,6 +48,7 @@ public class TypeSystemTest
     private Value integerValue = value( 13 );
     private Value floatValue = value( 13.1 );
     private Value stringValue = value( "Lalala " );
+    private Value bytesValue = value( new byte[]{1, 2, 3} );
     private Value nodeValue = value( node );
     private Value relationshipValue = value( relationship );
     private Value mapValue = value( Collections.singletonMap( "type", "r" ) );
@@ -63,6 +64,7 @@ public class TypeSystemTest
         HashSet<Value> allValues = new HashSet<>();
         allValues.add( integerValue );
         allValues.add( stringValue );
+        allValues.add( bytesValue );
         allValues.add( floatValue );
         allValues.add( nodeValue );
         allValues.add( relationshipValue );
@@ -80,6 +82,7 @@ public class TypeSystemTest
         assertThat( TYPE_SYSTEM.ANY().name(), is( "ANY" ) );
         assertThat( TYPE_SYSTEM.BOOLEAN().name(), is( "BOOLEAN" ) );
         assertThat( TYPE_SYSTEM.STRING().name(), is( "STRING" ) );
+        assertThat( TYPE_SYSTEM.BYTES().name(), is( "BYTES" ) );
         assertThat( TYPE_SYSTEM.NUMBER().name(), is( "NUMBER" ) );
         assertThat( TYPE_SYSTEM.INTEGER().name(), is( "INTEGER" ) );
         assertThat( TYPE_SYSTEM.FLOAT().name(), is( "FLOAT" ) );
@@ -97,6 +100,7 @@ public class TypeSystemTest
         {
             verifier.assertIncludes( booleanValue );
             verifier.assertIncludes( stringValue );
+            verifier.assertIncludes( bytesValue );
             verifier.assertIncludes( integerValue );
             verifier.assertIncludes( floatValue );
             verifier.assertIncludes( listValue );
@@ -140,6 +144,14 @@ public class TypeSystemTest
         }
     }
 
+    @Test
+    public void shouldInferBytesTypeCorrectly() {
+        try ( TypeVerifier verifier = newTypeVerifierFor( TYPE_SYSTEM.BYTES() ) )
+        {
+            verifier.assertIncludes( bytesValue );
+        }
+    }
+
     @Test
     public void shouldInferMapTypeCorrectly() {
         try ( TypeVerifier verifier = newTypeVerifierFor( TYPE_SYSTEM.MAP() ) )
@@ -55,6 +55,14 @@ public class BytePrinterTest
         assertEquals( "01 02 03 ", new String( baos.toByteArray(), StandardCharsets.UTF_8 ) );
     }
 
+    @Test
+    public void shouldPrintBytesAsCompactHex() throws Throwable
+    {
+        assertEquals( "00010f107f80ff",
+                BytePrinter.compactHex( new byte[]{0, 1, 0x0f, 0x10, 0x7f, (byte) 0x80, (byte) 0xff} ) );
+        assertEquals( "", BytePrinter.compactHex( new byte[0] ) );
+    }
+
     @Test
     public void shouldRevertHexStringToBytes()
     {
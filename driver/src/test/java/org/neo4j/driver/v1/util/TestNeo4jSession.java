@@ -21,6 +21,7 @@ package org.neo4j.driver.v1.util;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
 
+import java.util.List;
 import java.util.Map;
 
 import org.neo4j.driver.v1.Record;
@@ -154,6 +155,12 @@ public class TestNeo4jSession extends TestNeo4j implements Session
         return realSession.run( statement.text(), statement.parameters() );
     }
 
+    @Override
+    public List<StatementResult> runBatch( List<org.neo4j.driver.v1.Statement> statements )
+    {
+        return realSession.runBatch( statements );
+    }
+
     @Override
     public TypeSystem typeSystem()
     {